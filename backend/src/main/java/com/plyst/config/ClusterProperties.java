@@ -0,0 +1,54 @@
+package com.plyst.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "cluster")
+public class ClusterProperties {
+    private String nodeId = "local";
+    private List<Node> nodes = new ArrayList<>();
+    private int virtualNodes = 128;
+    private Transport transport = Transport.IN_JVM;
+    private Relay relay = new Relay();
+    private StompRelay stompRelay = new StompRelay();
+
+    public enum Transport {
+        IN_JVM,
+        TCP
+    }
+
+    @Getter
+    @Setter
+    public static class Node {
+        private String id;
+        private String url;
+    }
+
+    @Getter
+    @Setter
+    public static class Relay {
+        private String host = "localhost";
+        private int port = 7400;
+        private boolean embedded = false;
+        private int reconnectDelayMs = 2000;
+        private int outboundQueueSize = 10000;
+    }
+
+    @Getter
+    @Setter
+    public static class StompRelay {
+        private boolean enabled = false;
+        private String host = "localhost";
+        private int port = 61613;
+        private String login = "guest";
+        private String passcode = "guest";
+    }
+}
@@ -0,0 +1,18 @@
+package com.plyst.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "station.chat")
+public class StationChatProperties {
+    private long flushIntervalMs = 100;
+    private int maxBatchSize = 50;
+    private int burstCapacity = 5;
+    private double refillPerSecond = 1.0;
+    private int historySize = 200;
+}
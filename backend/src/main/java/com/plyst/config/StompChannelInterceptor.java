@@ -1,5 +1,11 @@
 package com.plyst.config;
 
+import com.plyst.service.ParticipantActivityTracker;
+import com.plyst.service.StationCborSubscriptions;
+import com.plyst.service.WebSocketMetrics;
+import com.plyst.service.WebSocketMessageCodec;
+import com.plyst.service.WebSocketMessageCodec.WireEncoding;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
@@ -10,11 +16,20 @@ import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class StompChannelInterceptor implements ChannelInterceptor {
 
+    private static final Pattern STATION_DESTINATION = Pattern.compile("^/app/station/(\\d+)/(.*)$");
+
+    private final StationCborSubscriptions cborSubscriptions;
+    private final ParticipantActivityTracker activityTracker;
+    private final WebSocketMetrics metrics;
+
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
         StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
@@ -24,6 +39,12 @@ public class StompChannelInterceptor implements ChannelInterceptor {
         }
 
         if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+            String encodingHeader = accessor.getFirstNativeHeader(WebSocketMessageCodec.ENCODING_PARAM);
+            Map<String, Object> attributes = accessor.getSessionAttributes();
+            if (encodingHeader != null && attributes != null) {
+                attributes.put(WebSocketMessageCodec.ENCODING_ATTRIBUTE, WireEncoding.from(encodingHeader));
+            }
+
             String userIdHeader = accessor.getFirstNativeHeader("userId");
             if (userIdHeader != null) {
                 try {
@@ -44,14 +65,41 @@ public class StompChannelInterceptor implements ChannelInterceptor {
             Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
             Integer userId = sessionAttributes != null ? (Integer) sessionAttributes.get("userId") : null;
             log.debug("STOMP SUBSCRIBE - destination: {}, userId: {}", destination, userId);
+            cborSubscriptions.subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), destination);
+        }
+
+        if (StompCommand.SEND.equals(accessor.getCommand())) {
+            recordSend(accessor);
+        }
+
+        if (StompCommand.UNSUBSCRIBE.equals(accessor.getCommand())) {
+            cborSubscriptions.unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
         }
 
         if (StompCommand.DISCONNECT.equals(accessor.getCommand())) {
             Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
             Integer userId = sessionAttributes != null ? (Integer) sessionAttributes.get("userId") : null;
             log.info("STOMP DISCONNECT - userId: {}, sessionId: {}", userId, accessor.getSessionId());
+            cborSubscriptions.disconnect(accessor.getSessionId());
         }
 
         return message;
     }
+
+    private void recordSend(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+        Matcher matcher = destination != null ? STATION_DESTINATION.matcher(destination) : null;
+        if (matcher == null || !matcher.matches()) {
+            metrics.messageIn(WebSocketMetrics.TRANSPORT_STOMP, null, destination);
+            return;
+        }
+
+        Integer stationId = Integer.parseInt(matcher.group(1));
+        metrics.messageIn(WebSocketMetrics.TRANSPORT_STOMP, stationId, matcher.group(2));
+
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        if (sessionAttributes != null && sessionAttributes.get("userId") instanceof Integer userId) {
+            activityTracker.touch(stationId, userId);
+        }
+    }
 }
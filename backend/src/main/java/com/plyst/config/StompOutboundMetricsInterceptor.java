@@ -0,0 +1,37 @@
+package com.plyst.config;
+
+import com.plyst.service.WebSocketMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+@RequiredArgsConstructor
+public class StompOutboundMetricsInterceptor implements ChannelInterceptor {
+
+    private static final Pattern STATION_DESTINATION = Pattern.compile("^/(?:user/)?(?:topic|queue)/station/(\\d+)");
+
+    private final WebSocketMetrics metrics;
+
+    // Runs once per recipient frame, after the broker has fanned the message out.
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        Matcher matcher = destination != null ? STATION_DESTINATION.matcher(destination) : null;
+        Integer stationId = matcher != null && matcher.lookingAt() ? Integer.parseInt(matcher.group(1)) : null;
+        metrics.stompFrameOut(stationId, payload.length);
+        return message;
+    }
+}
@@ -0,0 +1,50 @@
+package com.plyst.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "subtitle")
+public class SubtitleProperties {
+    private Cache cache = new Cache();
+    private Transcription transcription = new Transcription();
+    private Scheduler scheduler = new Scheduler();
+    private Prefetch prefetch = new Prefetch();
+
+    @Getter
+    @Setter
+    public static class Cache {
+        private int maxSegments = 50000;
+        private int warmupCount = 50;
+        private long flushIntervalMs = 30000;
+        private long negativeTtlMs = 30000;
+    }
+
+    @Getter
+    @Setter
+    public static class Transcription {
+        private double chunkSeconds = 30;
+        private double overlapSeconds = 2;
+    }
+
+    @Getter
+    @Setter
+    public static class Scheduler {
+        private int ioThreads = 2;
+        private int apiThreads = 6;
+        private int maxQueuedJobs = 20;
+        private long jobTimeoutMs = 600000;
+        private long translationTimeoutMs = 30000;
+    }
+
+    @Getter
+    @Setter
+    public static class Prefetch {
+        private int lookahead = 2;
+        private int maxInFlight = 4;
+    }
+}
@@ -0,0 +1,21 @@
+package com.plyst.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "websocket.outbound")
+public class WebSocketOutboundProperties {
+    private int sendTimeLimitMs = 5000;
+    private int bufferSizeLimit = 512 * 1024;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_STALE;
+
+    public enum OverflowPolicy {
+        DROP_STALE,
+        DISCONNECT
+    }
+}
@@ -1,12 +1,18 @@
 package com.plyst.config;
 
+import com.plyst.service.WebSocketMessageCodec;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.MessageConverter;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import java.util.List;
 
 @Configuration
 @EnableWebSocketMessageBroker
@@ -14,6 +20,10 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class WebSocketStompConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompChannelInterceptor stompChannelInterceptor;
+    private final StompOutboundMetricsInterceptor stompOutboundMetricsInterceptor;
+    private final WebSocketOutboundProperties outboundProperties;
+    private final WebSocketMessageCodec messageCodec;
+    private final ClusterProperties clusterProperties;
 
     private static final String[] ALLOWED_ORIGINS = {
         "https://plyst.topon.dev",
@@ -24,7 +34,20 @@ public class WebSocketStompConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic", "/queue");
+        ClusterProperties.StompRelay relay = clusterProperties.getStompRelay();
+        if (relay.isEnabled()) {
+            config.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(relay.getHost())
+                    .setRelayPort(relay.getPort())
+                    .setClientLogin(relay.getLogin())
+                    .setClientPasscode(relay.getPasscode())
+                    .setSystemLogin(relay.getLogin())
+                    .setSystemPasscode(relay.getPasscode())
+                    .setUserDestinationBroadcast("/topic/unresolved-user-destination")
+                    .setUserRegistryBroadcast("/topic/simp-user-registry");
+        } else {
+            config.enableSimpleBroker("/topic", "/queue");
+        }
         config.setApplicationDestinationPrefixes("/app");
         config.setUserDestinationPrefix("/user");
     }
@@ -43,4 +66,25 @@ public class WebSocketStompConfig implements WebSocketMessageBrokerConfigurer {
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(stompChannelInterceptor);
     }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompOutboundMetricsInterceptor);
+    }
+
+    @Override
+    public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+        // Only frames sent with content-type application/cbor are decoded as CBOR; everything else stays JSON.
+        MappingJackson2MessageConverter cborConverter = new MappingJackson2MessageConverter(WebSocketMessageCodec.CBOR_MIME_TYPE);
+        cborConverter.setObjectMapper(messageCodec.getCborMapper());
+        cborConverter.setStrictContentTypeMatch(true);
+        messageConverters.add(cborConverter);
+        return true;
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(outboundProperties.getSendTimeLimitMs());
+        registration.setSendBufferSizeLimit(outboundProperties.getBufferSizeLimit());
+    }
 }
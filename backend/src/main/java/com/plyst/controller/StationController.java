@@ -1,6 +1,9 @@
 package com.plyst.controller;
 
+import com.plyst.config.ClusterProperties;
 import com.plyst.dto.StationDto.*;
+import com.plyst.service.StationClusterRouter;
+import com.plyst.service.StationEngine;
 import com.plyst.service.StationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -15,7 +18,8 @@ import java.util.Map;
 public class StationController {
 
     private final StationService stationService;
-    private final StationStompController stationStompController;
+    private final StationEngine stationEngine;
+    private final StationClusterRouter stationClusterRouter;
 
     @GetMapping
     public ResponseEntity<List<StationListItemResponse>> getActiveStations() {
@@ -27,6 +31,16 @@ public class StationController {
         return ResponseEntity.ok(stationService.getStationDetail(stationId));
     }
 
+    @GetMapping("/{stationId}/route")
+    public ResponseEntity<StationRoute> getStationRoute(@PathVariable Integer stationId) {
+        ClusterProperties.Node owner = stationClusterRouter.ownerOf(stationId);
+        return ResponseEntity.ok(StationRoute.builder()
+                .stationId(stationId)
+                .nodeId(owner != null ? owner.getId() : null)
+                .url(owner != null ? owner.getUrl() : null)
+                .build());
+    }
+
     @PostMapping
     public ResponseEntity<CreateStationResponse> createStation(
             @RequestParam Integer userId,
@@ -45,9 +59,8 @@ public class StationController {
     public ResponseEntity<Map<String, Object>> leaveStation(
             @PathVariable Integer stationId,
             @RequestParam Integer userId) {
-        Integer newHostId = stationService.leaveStation(stationId, userId);
+        Integer newHostId = stationEngine.leaveStation(stationId, userId);
         if (newHostId != null) {
-            stationStompController.broadcastHostChanged(stationId, newHostId);
             return ResponseEntity.ok(Map.of("newHostId", newHostId));
         }
         return ResponseEntity.ok(Map.of());
@@ -58,8 +71,7 @@ public class StationController {
             @PathVariable Integer stationId,
             @RequestParam Integer userId,
             @RequestParam Integer newHostId) {
-        Integer result = stationService.transferHost(stationId, userId, newHostId);
-        stationStompController.broadcastHostChanged(stationId, newHostId);
+        Integer result = stationEngine.transferHost(stationId, userId, newHostId);
         return ResponseEntity.ok(Map.of("success", true, "newHostId", result));
     }
 
@@ -68,8 +80,7 @@ public class StationController {
             @PathVariable Integer stationId,
             @RequestParam Integer userId,
             @RequestParam Integer targetUserId) {
-        stationService.banUser(stationId, userId, targetUserId);
-        stationStompController.notifyUserKicked(stationId, targetUserId, "banned");
+        stationEngine.banUser(stationId, userId, targetUserId);
         return ResponseEntity.ok(Map.of("success", true));
     }
 
@@ -86,7 +97,7 @@ public class StationController {
     public ResponseEntity<Void> deleteStation(
             @PathVariable Integer stationId,
             @RequestParam Integer userId) {
-        stationStompController.notifyStationClosed(stationId);
+        stationEngine.notifyStationClosed(stationId);
         stationService.deleteStation(stationId, userId);
         return ResponseEntity.ok().build();
     }
@@ -101,7 +112,7 @@ public class StationController {
             return ResponseEntity.badRequest().body(Map.of("error", "Title is required"));
         }
         String updatedTitle = stationService.updateTitle(stationId, userId, newTitle);
-        stationStompController.broadcastTitleChanged(stationId, updatedTitle);
+        stationEngine.broadcastTitleChanged(stationId, updatedTitle);
         return ResponseEntity.ok(Map.of("success", true, "title", updatedTitle));
     }
 }
@@ -0,0 +1,36 @@
+package com.plyst.controller;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.plyst.config.ClusterProperties;
+import com.plyst.dto.StationDto.LobbySnapshot;
+import com.plyst.service.StationLobbyIndex;
+import com.plyst.service.StationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+@Controller
+@RequiredArgsConstructor
+public class StationLobbyStompController implements StationLobbyIndex.LobbyListener {
+
+    private static final String LOBBY_TOPIC = "/topic/stations";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final StationService stationService;
+    private final ClusterProperties clusterProperties;
+
+    @SubscribeMapping("/stations")
+    public LobbySnapshot handleSubscribe() {
+        return stationService.getLobbySnapshot();
+    }
+
+    @Override
+    public void onLobbyChange(ObjectNode change, boolean local) {
+        // Behind a broker relay the originating node's frame already reaches every subscriber.
+        if (!local && clusterProperties.getStompRelay().isEnabled()) {
+            return;
+        }
+        messagingTemplate.convertAndSend(LOBBY_TOPIC, change);
+    }
+}
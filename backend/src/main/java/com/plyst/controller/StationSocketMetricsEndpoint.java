@@ -0,0 +1,29 @@
+package com.plyst.controller;
+
+import com.plyst.dto.StationDto.StationSocketStats;
+import com.plyst.service.WebSocketMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Endpoint(id = "stationsockets")
+@RequiredArgsConstructor
+public class StationSocketMetricsEndpoint {
+
+    private final WebSocketMetrics metrics;
+
+    @ReadOperation
+    public List<StationSocketStats> stations() {
+        return metrics.getStationStats();
+    }
+
+    @ReadOperation
+    public StationSocketStats station(@Selector Integer stationId) {
+        return metrics.getStationStats(stationId);
+    }
+}
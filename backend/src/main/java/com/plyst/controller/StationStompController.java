@@ -1,40 +1,44 @@
 package com.plyst.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.plyst.dto.StationDto.*;
-import com.plyst.dto.SubtitleDto.*;
-import com.plyst.service.StationService;
-import com.plyst.service.SubtitleService;
+import com.plyst.config.ClusterProperties;
+import com.plyst.service.OutboundFrame;
+import com.plyst.service.StationCborSubscriptions;
+import com.plyst.service.StationEngine;
+import com.plyst.service.WebSocketMessageCodec;
+import com.plyst.service.WebSocketMessageCodec.WireEncoding;
+import com.plyst.service.WebSocketMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Controller;
+import org.springframework.util.MimeTypeUtils;
 
-import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Controller
 @RequiredArgsConstructor
-public class StationStompController {
+public class StationStompController implements StationEngine.Transport {
 
     private final SimpMessagingTemplate messagingTemplate;
-    private final StationService stationService;
-    private final SubtitleService subtitleService;
+    private final StationEngine stationEngine;
     private final ObjectMapper objectMapper;
+    private final WebSocketMessageCodec messageCodec;
+    private final StationCborSubscriptions cborSubscriptions;
+    private final ClusterProperties clusterProperties;
+    private final WebSocketMetrics metrics;
 
-    private final Map<Integer, String> stationVideoIds = new ConcurrentHashMap<>();
-    private final Map<Integer, JsonNode> stationQueues = new ConcurrentHashMap<>();
-    private final Map<Integer, Integer> stationVolumes = new ConcurrentHashMap<>();
 
     @SubscribeMapping("/station/{stationId}")
     public ObjectNode handleSubscribe(@DestinationVariable Integer stationId, SimpMessageHeaderAccessor headerAccessor) {
@@ -44,416 +48,152 @@ public class StationStompController {
         }
 
         log.info("Station STOMP subscribed - stationId: {}, userId: {}", stationId, userId);
-        stationService.updateParticipantActivity(stationId, userId);
 
-        StationDetailResponse stationDetail = stationService.getStationDetail(stationId);
-        String videoId = stationVideoIds.get(stationId);
-        JsonNode queue = stationQueues.get(stationId);
-        Integer volume = stationVolumes.get(stationId);
-
-        ObjectNode response = objectMapper.createObjectNode();
-        response.put("type", "station_detail");
-        response.set("station", objectMapper.valueToTree(stationDetail));
-        if (videoId != null) {
-            response.put("videoId", videoId);
-        }
-        if (queue != null) {
-            response.set("queue", queue);
-        }
-        if (volume != null) {
-            response.put("volume", volume);
-        }
-        response.put("serverTime", System.currentTimeMillis());
-
-        if (videoId != null && subtitleService.isSubtitleEnabled(stationId)) {
-            response.put("subtitleEnabled", true);
-            SubtitleResponse subtitleStatus = subtitleService.getSubtitleStatus(videoId);
-            if (subtitleStatus.isAvailable()) {
-                response.set("subtitleSegments", objectMapper.valueToTree(subtitleStatus.getSegments()));
-                response.put("subtitleLanguage", subtitleStatus.getOriginalLanguage());
-            }
-        }
-
-        broadcastParticipantsUpdate(stationId, "join", userId);
+        ObjectNode response = stationEngine.connect(stationId, userId);
+        stationEngine.announceJoin(stationId, userId);
         return response;
     }
 
     @MessageMapping("/station/{stationId}/playback")
-    public void handlePlaybackUpdate(
-            @DestinationVariable Integer stationId,
-            @Payload JsonNode payload,
-            SimpMessageHeaderAccessor headerAccessor) {
-        
-        Integer userId = getUserIdFromHeader(headerAccessor);
-        if (userId == null || !stationService.isHost(stationId, userId)) {
-            log.warn("Non-host tried to update playback - stationId: {}, userId: {}", stationId, userId);
-            return;
-        }
-
-        try {
-            JsonNode payloadNode = payload.get("payload");
-            if (payloadNode == null) return;
-
-            PlaybackUpdateMessage playbackUpdate = objectMapper.treeToValue(payloadNode, PlaybackUpdateMessage.class);
-            stationService.updatePlayback(stationId, playbackUpdate);
-
-            String videoId = payload.has("videoId") ? payload.get("videoId").asText() : null;
-            String previousVideoId = stationVideoIds.get(stationId);
-            if (videoId != null) {
-                stationVideoIds.put(stationId, videoId);
-
-                if (!videoId.equals(previousVideoId)) {
-                    subtitleService.enableSubtitles(stationId, videoId, (subtitleResponse) -> {
-                        ObjectNode subtitleReadyResponse = objectMapper.createObjectNode();
-                        subtitleReadyResponse.put("type", "subtitle_ready");
-                        subtitleReadyResponse.put("videoId", subtitleResponse.getVideoId());
-                        subtitleReadyResponse.put("available", subtitleResponse.isAvailable());
-                        subtitleReadyResponse.put("processing", subtitleResponse.isProcessing());
-                        subtitleReadyResponse.put("originalLanguage", subtitleResponse.getOriginalLanguage());
-                        subtitleReadyResponse.set("segments", objectMapper.valueToTree(subtitleResponse.getSegments()));
-                        broadcastToStation(stationId, subtitleReadyResponse);
-                    });
-
-                    ObjectNode enabledResponse = objectMapper.createObjectNode();
-                    enabledResponse.put("type", "subtitle_enabled");
-                    enabledResponse.put("videoId", videoId);
-                    broadcastToStation(stationId, enabledResponse);
-                }
-            }
-
-            ObjectNode response = objectMapper.createObjectNode();
-            response.put("type", "playback_update");
-            response.set("payload", payloadNode);
-            if (videoId != null) {
-                response.put("videoId", videoId);
-            }
-            response.put("serverTime", System.currentTimeMillis());
-            response.put("senderId", userId);
-
-            broadcastToStation(stationId, response);
-        } catch (Exception e) {
-            log.error("Failed to process playback update", e);
-        }
+    public void handlePlaybackUpdate(@DestinationVariable Integer stationId, @Payload JsonNode payload,
+                                     SimpMessageHeaderAccessor headerAccessor) {
+        dispatch(stationId, "playback_update", payload, headerAccessor);
     }
 
     @MessageMapping("/station/{stationId}/chat")
-    public void handleChat(
-            @DestinationVariable Integer stationId,
-            @Payload JsonNode payload,
-            SimpMessageHeaderAccessor headerAccessor) {
-        
-        Integer userId = getUserIdFromHeader(headerAccessor);
-        if (userId == null) return;
-
-        try {
-            String messageText = payload.has("message") ? payload.get("message").asText() : null;
-            if (messageText == null || messageText.isBlank()) return;
-
-            List<ParticipantInfo> participants = stationService.getParticipants(stationId);
-            ParticipantInfo sender = participants.stream()
-                    .filter(p -> p.getId().equals(userId))
-                    .findFirst()
-                    .orElse(null);
-
-            ObjectNode userNode = objectMapper.createObjectNode();
-            userNode.put("id", userId);
-            userNode.put("nickname", sender != null ? sender.getNickname() : "Unknown");
-            if (sender != null && sender.getAvatar() != null) {
-                userNode.put("avatar", sender.getAvatar());
-            }
-
-            ObjectNode response = objectMapper.createObjectNode();
-            response.put("type", "chat");
-            response.set("user", userNode);
-            response.put("message", messageText);
-            response.put("sentAt", LocalDateTime.now().toString());
-
-            broadcastToStation(stationId, response);
-        } catch (Exception e) {
-            log.error("Failed to process chat message", e);
-        }
+    public void handleChat(@DestinationVariable Integer stationId, @Payload JsonNode payload,
+                           SimpMessageHeaderAccessor headerAccessor) {
+        dispatch(stationId, "chat", payload, headerAccessor);
     }
 
     @MessageMapping("/station/{stationId}/sync")
-    public void handleSyncRequest(
-            @DestinationVariable Integer stationId,
-            SimpMessageHeaderAccessor headerAccessor) {
-        
-        Integer userId = getUserIdFromHeader(headerAccessor);
-        if (userId == null) return;
+    public void handleSyncRequest(@DestinationVariable Integer stationId, SimpMessageHeaderAccessor headerAccessor) {
+        dispatch(stationId, "sync_request", objectMapper.createObjectNode(), headerAccessor);
+    }
 
-        try {
-            StationDetailResponse stationDetail = stationService.getStationDetail(stationId);
-            String videoId = stationVideoIds.get(stationId);
+    @MessageMapping("/station/{stationId}/time")
+    public void handleTimeSync(@DestinationVariable Integer stationId, @Payload JsonNode payload,
+                               SimpMessageHeaderAccessor headerAccessor) {
+        sendToSession(headerAccessor, stationId, stationEngine.timeSync(payload, System.currentTimeMillis()));
+    }
 
-            ObjectNode response = objectMapper.createObjectNode();
-            response.put("type", "station_detail");
-            response.set("station", objectMapper.valueToTree(stationDetail));
-            if (videoId != null) {
-                response.put("videoId", videoId);
-            }
-            response.put("serverTime", System.currentTimeMillis());
+    @MessageMapping("/station/{stationId}/roster")
+    public void handleRosterRequest(@DestinationVariable Integer stationId, SimpMessageHeaderAccessor headerAccessor) {
+        dispatch(stationId, "roster_request", objectMapper.createObjectNode(), headerAccessor);
+    }
 
-            String sessionId = headerAccessor.getSessionId();
-            messagingTemplate.convertAndSendToUser(sessionId, "/queue/station/" + stationId, response);
-        } catch (Exception e) {
-            log.error("Failed to process sync request", e);
-        }
+    @MessageMapping("/station/{stationId}/chat/history")
+    public void handleChatHistory(@DestinationVariable Integer stationId, @Payload JsonNode payload,
+                                  SimpMessageHeaderAccessor headerAccessor) {
+        dispatch(stationId, "chat_history", payload, headerAccessor);
     }
 
     @MessageMapping("/station/{stationId}/volume")
-    public void handleVolumeUpdate(
-            @DestinationVariable Integer stationId,
-            @Payload JsonNode payload,
-            SimpMessageHeaderAccessor headerAccessor) {
-        
-        Integer userId = getUserIdFromHeader(headerAccessor);
-        if (userId == null || !stationService.isHost(stationId, userId)) return;
-
-        try {
-            int volume = payload.has("volume") ? payload.get("volume").asInt() : 100;
-            stationVolumes.put(stationId, volume);
-
-            ObjectNode response = objectMapper.createObjectNode();
-            response.put("type", "volume_update");
-            response.put("volume", volume);
-
-            broadcastToStation(stationId, response);
-        } catch (Exception e) {
-            log.error("Failed to process volume update", e);
-        }
+    public void handleVolumeUpdate(@DestinationVariable Integer stationId, @Payload JsonNode payload,
+                                   SimpMessageHeaderAccessor headerAccessor) {
+        dispatch(stationId, "volume_update", payload, headerAccessor);
     }
 
     @MessageMapping("/station/{stationId}/queue/update")
-    public void handleQueueUpdate(
-            @DestinationVariable Integer stationId,
-            @Payload JsonNode payload,
-            SimpMessageHeaderAccessor headerAccessor) {
-        
-        Integer userId = getUserIdFromHeader(headerAccessor);
-        if (userId == null || !stationService.isHost(stationId, userId)) return;
-
-        try {
-            JsonNode queueNode = payload.get("queue");
-            stationQueues.put(stationId, queueNode);
-
-            ObjectNode response = objectMapper.createObjectNode();
-            response.put("type", "queue_update");
-            response.set("queue", queueNode);
-
-            broadcastToStation(stationId, response);
-        } catch (Exception e) {
-            log.error("Failed to process queue update", e);
-        }
+    public void handleQueueUpdate(@DestinationVariable Integer stationId, @Payload JsonNode payload,
+                                  SimpMessageHeaderAccessor headerAccessor) {
+        dispatch(stationId, "queue_update", payload, headerAccessor);
     }
 
     @MessageMapping("/station/{stationId}/queue/add")
-    public void handleQueueAdd(
-            @DestinationVariable Integer stationId,
-            @Payload JsonNode payload,
-            SimpMessageHeaderAccessor headerAccessor) {
-        
-        Integer userId = getUserIdFromHeader(headerAccessor);
-        if (userId == null) return;
-
-        try {
-            JsonNode itemNode = payload.get("item");
-
-            JsonNode currentQueue = stationQueues.get(stationId);
-            com.fasterxml.jackson.databind.node.ArrayNode newQueue;
-            if (currentQueue != null && currentQueue.isArray()) {
-                newQueue = (com.fasterxml.jackson.databind.node.ArrayNode) currentQueue.deepCopy();
-            } else {
-                newQueue = objectMapper.createArrayNode();
-            }
-            newQueue.add(itemNode);
-            stationQueues.put(stationId, newQueue);
+    public void handleQueueAdd(@DestinationVariable Integer stationId, @Payload JsonNode payload,
+                               SimpMessageHeaderAccessor headerAccessor) {
+        dispatch(stationId, "queue_add", payload, headerAccessor);
+    }
 
-            ObjectNode response = objectMapper.createObjectNode();
-            response.put("type", "queue_add");
-            response.set("item", itemNode);
+    @MessageMapping("/station/{stationId}/queue/op")
+    public void handleQueueOp(@DestinationVariable Integer stationId, @Payload JsonNode payload,
+                              SimpMessageHeaderAccessor headerAccessor) {
+        dispatch(stationId, "queue_op", payload, headerAccessor);
+    }
 
-            broadcastToStation(stationId, response);
-        } catch (Exception e) {
-            log.error("Failed to process queue add", e);
-        }
+    @MessageMapping("/station/{stationId}/queue/sync")
+    public void handleQueueSync(@DestinationVariable Integer stationId, @Payload JsonNode payload,
+                                SimpMessageHeaderAccessor headerAccessor) {
+        dispatch(stationId, "queue_sync", payload, headerAccessor);
     }
 
     @MessageMapping("/station/{stationId}/subtitle/enable")
-    public void handleSubtitleEnable(
-            @DestinationVariable Integer stationId,
-            @Payload JsonNode payload,
-            SimpMessageHeaderAccessor headerAccessor) {
-        
-        Integer userId = getUserIdFromHeader(headerAccessor);
-        if (userId == null || !stationService.isHost(stationId, userId)) return;
-
-        try {
-            String videoId = payload.has("videoId") ? payload.get("videoId").asText() : stationVideoIds.get(stationId);
-            if (videoId == null) return;
-
-            subtitleService.enableSubtitles(stationId, videoId, (subtitleResponse) -> {
-                ObjectNode response = objectMapper.createObjectNode();
-                response.put("type", "subtitle_ready");
-                response.put("videoId", subtitleResponse.getVideoId());
-                response.put("available", subtitleResponse.isAvailable());
-                response.put("processing", subtitleResponse.isProcessing());
-                response.put("originalLanguage", subtitleResponse.getOriginalLanguage());
-                response.set("segments", objectMapper.valueToTree(subtitleResponse.getSegments()));
-                broadcastToStation(stationId, response);
-            });
-
-            ObjectNode enabledResponse = objectMapper.createObjectNode();
-            enabledResponse.put("type", "subtitle_enabled");
-            enabledResponse.put("videoId", videoId);
-            broadcastToStation(stationId, enabledResponse);
-
-            log.info("Subtitle enabled: stationId={}, videoId={}", stationId, videoId);
-        } catch (Exception e) {
-            log.error("Failed to enable subtitles", e);
-        }
+    public void handleSubtitleEnable(@DestinationVariable Integer stationId, @Payload JsonNode payload,
+                                     SimpMessageHeaderAccessor headerAccessor) {
+        dispatch(stationId, "subtitle_enable", payload, headerAccessor);
     }
 
     @MessageMapping("/station/{stationId}/subtitle/disable")
-    public void handleSubtitleDisable(
-            @DestinationVariable Integer stationId,
-            SimpMessageHeaderAccessor headerAccessor) {
-        
-        Integer userId = getUserIdFromHeader(headerAccessor);
-        if (userId == null || !stationService.isHost(stationId, userId)) return;
-
-        try {
-            subtitleService.disableSubtitles(stationId);
-
-            ObjectNode response = objectMapper.createObjectNode();
-            response.put("type", "subtitle_disabled");
-            broadcastToStation(stationId, response);
-
-            log.info("Subtitle disabled: stationId={}", stationId);
-        } catch (Exception e) {
-            log.error("Failed to disable subtitles", e);
-        }
+    public void handleSubtitleDisable(@DestinationVariable Integer stationId, SimpMessageHeaderAccessor headerAccessor) {
+        dispatch(stationId, "subtitle_disable", objectMapper.createObjectNode(), headerAccessor);
     }
 
     @MessageMapping("/station/{stationId}/subtitle/status")
-    public void handleSubtitleStatus(
-            @DestinationVariable Integer stationId,
-            @Payload JsonNode payload,
-            SimpMessageHeaderAccessor headerAccessor) {
-        
+    public void handleSubtitleStatus(@DestinationVariable Integer stationId, @Payload JsonNode payload,
+                                     SimpMessageHeaderAccessor headerAccessor) {
+        dispatch(stationId, "subtitle_status", payload, headerAccessor);
+    }
+
+    private void dispatch(Integer stationId, String type, JsonNode payload, SimpMessageHeaderAccessor headerAccessor) {
         Integer userId = getUserIdFromHeader(headerAccessor);
         if (userId == null) return;
 
-        try {
-            String videoId = payload.has("videoId") ? payload.get("videoId").asText() : stationVideoIds.get(stationId);
-            if (videoId == null) return;
-
-            SubtitleResponse status = subtitleService.getSubtitleStatus(videoId);
+        stationEngine.handle(stationId, userId, type, payload, reply -> sendToSession(headerAccessor, stationId, reply));
+    }
 
-            ObjectNode response = objectMapper.createObjectNode();
-            response.put("type", "subtitle_status");
-            response.put("videoId", status.getVideoId());
-            response.put("available", status.isAvailable());
-            response.put("processing", status.isProcessing());
-            response.put("enabled", subtitleService.isSubtitleEnabled(stationId));
-            if (status.isAvailable()) {
-                response.put("originalLanguage", status.getOriginalLanguage());
-                response.set("segments", objectMapper.valueToTree(status.getSegments()));
+    // An external broker relay already fans out to every node, so only frames raised on this node are sent to it.
+    @Override
+    public void deliver(Integer stationId, OutboundFrame frame, boolean droppable, boolean local) {
+        if (!local && clusterProperties.getStompRelay().isEnabled()) {
+            return;
+        }
+        String destination = "/topic/station/" + stationId;
+        try {
+            messagingTemplate.send(destination, MessageBuilder.withPayload(frame.bytes(WireEncoding.JSON, messageCodec))
+                    .setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON)
+                    .build());
+            metrics.messageOut(WebSocketMetrics.TRANSPORT_STOMP, null, frame.getPayload(), 1, 0);
+            if (clusterProperties.getStompRelay().isEnabled() || cborSubscriptions.hasSubscribers(stationId)) {
+                messagingTemplate.convertAndSend(destination + StationCborSubscriptions.DESTINATION_SUFFIX,
+                        frame.bytes(WireEncoding.CBOR, messageCodec));
             }
-
-            String sessionId = headerAccessor.getSessionId();
-            messagingTemplate.convertAndSendToUser(sessionId, "/queue/station/" + stationId, response);
-        } catch (Exception e) {
-            log.error("Failed to get subtitle status", e);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to encode station message - stationId: {}", stationId, e);
         }
     }
 
-    public void notifyUserKicked(Integer stationId, Integer userId, String reason) {
-        ObjectNode response = objectMapper.createObjectNode();
-        response.put("type", "kicked");
-        if (reason != null) {
-            response.put("reason", reason);
+    @Override
+    public void disconnectUser(Integer stationId, Integer userId, OutboundFrame frame, boolean local) {
+        if (!local && clusterProperties.getStompRelay().isEnabled()) {
+            return;
         }
         messagingTemplate.convertAndSendToUser(
                 String.valueOf(userId),
                 "/queue/station/" + stationId,
-                response
+                frame.getPayload()
         );
-        broadcastParticipantsUpdate(stationId, "kick", userId);
     }
 
-    public void broadcastHostChanged(Integer stationId, Integer newHostId) {
-        try {
-            List<ParticipantInfo> participants = stationService.getParticipants(stationId);
-            StationDetailResponse stationDetail = stationService.getStationDetail(stationId);
-
-            ObjectNode response = objectMapper.createObjectNode();
-            response.put("type", "host_changed");
-            response.put("newHostId", newHostId);
-            response.set("participants", objectMapper.valueToTree(participants));
-            if (stationDetail != null && stationDetail.getHost() != null) {
-                response.set("host", objectMapper.valueToTree(stationDetail.getHost()));
-            }
-
-            broadcastToStation(stationId, response);
-        } catch (Exception e) {
-            log.error("Failed to broadcast host changed", e);
-        }
+    @Override
+    public void closeStation(Integer stationId, OutboundFrame frame, boolean local) {
+        deliver(stationId, frame, false, local);
     }
 
-    public void broadcastTitleChanged(Integer stationId, String newTitle) {
-        try {
-            ObjectNode response = objectMapper.createObjectNode();
-            response.put("type", "title_changed");
-            response.put("title", newTitle);
-            broadcastToStation(stationId, response);
-        } catch (Exception e) {
-            log.error("Failed to broadcast title changed", e);
+    private void sendToSession(SimpMessageHeaderAccessor headerAccessor, Integer stationId, Object message) {
+        String sessionId = headerAccessor.getSessionId();
+        String destination = "/queue/station/" + stationId;
+        if (WebSocketMessageCodec.encodingOf(headerAccessor.getSessionAttributes()) != WireEncoding.CBOR) {
+            messagingTemplate.convertAndSendToUser(sessionId, destination, message);
+            return;
         }
-    }
-
-    public void notifyStationClosed(Integer stationId) {
-        stationVideoIds.remove(stationId);
-        stationQueues.remove(stationId);
-        stationVolumes.remove(stationId);
-        subtitleService.cleanup(stationId);
-
-        ObjectNode response = objectMapper.createObjectNode();
-        response.put("type", "station_closed");
-        broadcastToStation(stationId, response);
-    }
-
-    private void broadcastParticipantsUpdate(Integer stationId, String action, Integer affectedUserId) {
         try {
-            List<ParticipantInfo> participants = stationService.getParticipants(stationId);
-            StationDetailResponse stationDetail = stationService.getStationDetail(stationId);
-
-            ObjectNode response = objectMapper.createObjectNode();
-            response.put("type", "participants_update");
-            response.set("participants", objectMapper.valueToTree(participants));
-            if (stationDetail != null) {
-                response.set("host", objectMapper.valueToTree(stationDetail.getHost()));
-                response.put("status", stationDetail.getStatus());
-            }
-            response.put("action", action);
-            response.put("affectedUserId", affectedUserId);
-
-            broadcastToStation(stationId, response);
-        } catch (RuntimeException e) {
-            if (e.getMessage() != null && e.getMessage().contains("not found")) {
-                log.debug("Station {} no longer exists - skipping broadcast", stationId);
-            } else {
-                log.error("Failed to broadcast participants update", e);
-            }
-        } catch (Exception e) {
-            log.error("Failed to broadcast participants update", e);
+            messagingTemplate.convertAndSendToUser(sessionId, destination, messageCodec.encodeCbor(message));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to encode CBOR message - sessionId: {}", sessionId, e);
         }
     }
 
-    private void broadcastToStation(Integer stationId, Object message) {
-        messagingTemplate.convertAndSend("/topic/station/" + stationId, message);
-    }
-
     private Integer getUserIdFromHeader(SimpMessageHeaderAccessor headerAccessor) {
         Map<String, Object> sessionAttributes = headerAccessor.getSessionAttributes();
         if (sessionAttributes != null && sessionAttributes.containsKey("userId")) {
@@ -0,0 +1,17 @@
+package com.plyst.dto;
+
+import lombok.*;
+
+public class ClusterDto {
+
+    @Data @Builder @NoArgsConstructor @AllArgsConstructor
+    public static class ClusterMessage {
+        private String origin;
+        private String channel;
+        private Integer stationId;
+        private Long userId;
+        private Long excludeUserId;
+        private boolean droppable;
+        private Object payload;
+    }
+}
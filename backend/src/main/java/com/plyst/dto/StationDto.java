@@ -61,10 +61,12 @@ public class StationDto {
         private Integer durationSec;
         private Integer positionMs;
         private Boolean isPlaying;
+        private Double playbackRate;
+        private Long serverTime;
         private String updatedAt;
     }
 
-    @Data @Builder @NoArgsConstructor @AllArgsConstructor
+    @Data @Builder(toBuilder = true) @NoArgsConstructor @AllArgsConstructor
     public static class StationListItemResponse {
         private Integer id;
         private String title;
@@ -89,9 +91,78 @@ public class StationDto {
         private List<ParticipantInfo> participants;
         private List<BannedUserInfo> bannedUsers;
         private PlaybackInfo playback;
+        private Long rosterVersion;
         private String createdAt;
     }
 
+    @Data @Builder @NoArgsConstructor @AllArgsConstructor
+    public static class StationSocketStats {
+        private Integer stationId;
+        private Integer sessions;
+        private Long messagesIn;
+        private Long messagesOut;
+        private Long bytesOut;
+        private Long droppedFrames;
+        private Long terminatedSessions;
+    }
+
+    @Data @Builder @NoArgsConstructor @AllArgsConstructor
+    public static class StationRoute {
+        private Integer stationId;
+        private String nodeId;
+        private String url;
+    }
+
+    @Data @Builder @NoArgsConstructor @AllArgsConstructor
+    public static class LobbySnapshot {
+        private String node;
+        private Long version;
+        private List<StationListItemResponse> stations;
+    }
+
+    @Data @Builder @NoArgsConstructor @AllArgsConstructor
+    public static class RosterSnapshot {
+        private Long version;
+        private List<ParticipantInfo> participants;
+        private UserInfo host;
+    }
+
+    @Data @Builder @NoArgsConstructor @AllArgsConstructor
+    public static class ParticipantReapResult {
+        private List<Integer> userIds;
+        private Integer newHostId;
+        private UserInfo newHost;
+        private boolean closed;
+        private Long rosterVersion;
+    }
+
+    @Data @Builder(toBuilder = true) @NoArgsConstructor @AllArgsConstructor
+    public static class QueueItem {
+        private String id;
+        private String videoId;
+        private String title;
+        private String artist;
+        private String albumImage;
+        private Integer duration;
+        private Integer addedBy;
+    }
+
+    @Data @Builder @NoArgsConstructor @AllArgsConstructor
+    public static class QueueOperation {
+        private Long seq;
+        private String op;
+        private QueueItem item;
+        private String itemId;
+        private Integer index;
+        private List<QueueItem> items;
+    }
+
+    @Data @Builder @NoArgsConstructor @AllArgsConstructor
+    public static class QueueSnapshot {
+        private Long seq;
+        private List<QueueItem> items;
+    }
+
     @Data @Builder @NoArgsConstructor @AllArgsConstructor
     public static class StationMessage {
         private String type;
@@ -115,6 +186,8 @@ public class StationDto {
         private Integer durationSec;
         private Integer positionMs;
         private Boolean isPlaying;
+        private Double playbackRate;
+        private Long capturedAt;
     }
 
     @Data @Builder @NoArgsConstructor @AllArgsConstructor
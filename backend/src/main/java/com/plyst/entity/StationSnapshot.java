@@ -0,0 +1,37 @@
+package com.plyst.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "station_snapshots")
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class StationSnapshot {
+    @Id
+    @Column(name = "station_id")
+    private Integer stationId;
+
+    @Column(name = "video_id")
+    private String videoId;
+
+    private Integer volume;
+
+    @Column(name = "subtitle_enabled", nullable = false)
+    private Boolean subtitleEnabled;
+
+    @Column(name = "queue_seq", nullable = false)
+    private Long queueSeq;
+
+    @Column(name = "queue_json", columnDefinition = "LONGTEXT")
+    private String queueJson;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,41 @@
+package com.plyst.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "subtitle_tracks")
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class SubtitleTrack {
+    @Id
+    @Column(name = "video_id", length = 32)
+    private String videoId;
+
+    @Column(name = "original_language", length = 32)
+    private String originalLanguage;
+
+    @Column(name = "segment_count", nullable = false)
+    private Integer segmentCount;
+
+    @Lob
+    @Column(name = "segments_gz", nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] segmentsGz;
+
+    @Column(name = "play_count", nullable = false)
+    private Long playCount;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "last_played_at", nullable = false)
+    private LocalDateTime lastPlayedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (lastPlayedAt == null) {
+            lastPlayedAt = createdAt;
+        }
+    }
+}
@@ -14,6 +14,9 @@ public interface BlockRepository extends JpaRepository<Block, Integer> {
     List<Block> findByBlockedId(Integer blockedId);
     Optional<Block> findByBlockerIdAndBlockedId(Integer blockerId, Integer blockedId);
     boolean existsByBlockerIdAndBlockedId(Integer blockerId, Integer blockedId);
+    
+    @Query("SELECT b.blocked.id FROM Block b WHERE b.blocker.id = :blockerId")
+    List<Integer> findBlockedIdsByBlockerId(@Param("blockerId") Integer blockerId);
     long countByBlockerId(Integer blockerId);
     long countByBlockedId(Integer blockedId);
     void deleteByBlockerIdAndBlockedId(Integer blockerId, Integer blockedId);
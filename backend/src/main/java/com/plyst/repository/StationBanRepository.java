@@ -13,6 +13,9 @@ public interface StationBanRepository extends JpaRepository<StationBan, Integer>
     
     List<StationBan> findByStationId(Integer stationId);
     
+    @Query("SELECT sb.user.id FROM StationBan sb WHERE sb.station.id = :stationId")
+    List<Integer> findUserIdsByStationId(@Param("stationId") Integer stationId);
+    
     Optional<StationBan> findByStationIdAndUserId(Integer stationId, Integer userId);
     
     boolean existsByStationIdAndUserId(Integer stationId, Integer userId);
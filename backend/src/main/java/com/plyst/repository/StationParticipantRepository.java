@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,12 +14,26 @@ public interface StationParticipantRepository extends JpaRepository<StationParti
     
     List<StationParticipant> findByStationId(Integer stationId);
     
+    @Query("SELECT sp FROM StationParticipant sp JOIN FETCH sp.user u LEFT JOIN FETCH u.profile WHERE sp.station.id = :stationId")
+    List<StationParticipant> findWithUserByStationId(@Param("stationId") Integer stationId);
+    
+    @Query("SELECT sp FROM StationParticipant sp JOIN FETCH sp.user u LEFT JOIN FETCH u.profile WHERE sp.station.id IN :stationIds")
+    List<StationParticipant> findWithUserByStationIdIn(@Param("stationIds") Collection<Integer> stationIds);
+    
     Optional<StationParticipant> findByStationIdAndUserId(Integer stationId, Integer userId);
     
     @Modifying(clearAutomatically = true)
     @Query("DELETE FROM StationParticipant sp WHERE sp.station.id = :stationId AND sp.user.id = :userId")
     void deleteByStationIdAndUserId(@Param("stationId") Integer stationId, @Param("userId") Integer userId);
     
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM StationParticipant sp WHERE sp.station.id = :stationId AND sp.user.id IN :userIds")
+    void deleteByStationIdAndUserIdIn(@Param("stationId") Integer stationId, @Param("userIds") Collection<Integer> userIds);
+    
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE StationParticipant sp SET sp.role = :role WHERE sp.station.id = :stationId AND sp.user.id = :userId")
+    void updateRole(@Param("stationId") Integer stationId, @Param("userId") Integer userId, @Param("role") String role);
+    
     @Modifying(clearAutomatically = true)
     @Query("DELETE FROM StationParticipant sp WHERE sp.station.id = :stationId")
     void deleteByStationId(@Param("stationId") Integer stationId);
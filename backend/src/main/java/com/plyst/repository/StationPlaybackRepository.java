@@ -12,6 +12,9 @@ public interface StationPlaybackRepository extends JpaRepository<StationPlayback
     
     Optional<StationPlayback> findByStationId(Integer stationId);
     
+    @Query("SELECT sp FROM StationPlayback sp JOIN FETCH sp.track WHERE sp.station.id = :stationId")
+    Optional<StationPlayback> findWithTrackByStationId(@Param("stationId") Integer stationId);
+    
     @Modifying(clearAutomatically = true)
     @Query("DELETE FROM StationPlayback sp WHERE sp.station.id = :stationId")
     void deleteByStationId(@Param("stationId") Integer stationId);
@@ -1,7 +1,11 @@
 package com.plyst.repository;
 
 import com.plyst.entity.Station;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,4 +14,8 @@ public interface StationRepository extends JpaRepository<Station, Integer> {
     Optional<Station> findByInviteCode(String inviteCode);
     List<Station> findByStatus(String status);
     List<Station> findByStatusOrderByCreatedAtDesc(String status);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Station s WHERE s.id = :id")
+    Optional<Station> findByIdForUpdate(@Param("id") Integer id);
 }
@@ -0,0 +1,7 @@
+package com.plyst.repository;
+
+import com.plyst.entity.StationSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface StationSnapshotRepository extends JpaRepository<StationSnapshot, Integer> {
+}
@@ -0,0 +1,12 @@
+package com.plyst.repository;
+
+import com.plyst.entity.SubtitleTrack;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface SubtitleTrackRepository extends JpaRepository<SubtitleTrack, String> {
+
+    List<SubtitleTrack> findByOrderByPlayCountDesc(Pageable pageable);
+}
@@ -0,0 +1,99 @@
+package com.plyst.service;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+// Cuts a mono 16-bit PCM stream into overlapping WAV windows. Neighbouring windows split each overlap
+// in half, so every instant of audio is owned by exactly one chunk.
+final class AudioChunker {
+
+    static final int WAV_HEADER_BYTES = 44;
+    private static final int BYTES_PER_SAMPLE = 2;
+
+    record Chunk(int index, double start, double ownedFrom, double ownedUntil, byte[] wav) {
+        boolean owns(double time) {
+            return time >= ownedFrom && time < ownedUntil;
+        }
+    }
+
+    private final int sampleRate;
+    private final double chunkSeconds;
+    private final double overlapSeconds;
+    private final int windowBytes;
+    private final int overlapBytes;
+    private final Consumer<Chunk> onChunk;
+
+    private byte[] window;
+    private int filled;
+    private int index;
+    private double start;
+
+    AudioChunker(int sampleRate, double chunkSeconds, double overlapSeconds, Consumer<Chunk> onChunk) {
+        this.sampleRate = sampleRate;
+        this.chunkSeconds = chunkSeconds;
+        this.overlapSeconds = overlapSeconds;
+        this.windowBytes = pcmBytes(chunkSeconds);
+        this.overlapBytes = pcmBytes(overlapSeconds);
+        this.onChunk = onChunk;
+        this.window = new byte[WAV_HEADER_BYTES + windowBytes];
+    }
+
+    // A full window is held back until more audio arrives, so the last one can claim everything up to the end.
+    void accept(byte[] data, int offset, int length) {
+        while (length > 0) {
+            if (filled == windowBytes) {
+                emit(start + chunkSeconds - overlapSeconds / 2);
+                byte[] next = new byte[WAV_HEADER_BYTES + windowBytes];
+                System.arraycopy(window, WAV_HEADER_BYTES + windowBytes - overlapBytes, next, WAV_HEADER_BYTES, overlapBytes);
+                window = next;
+                filled = overlapBytes;
+                index++;
+                start += chunkSeconds - overlapSeconds;
+            }
+            int copied = Math.min(length, windowBytes - filled);
+            System.arraycopy(data, offset, window, WAV_HEADER_BYTES + filled, copied);
+            filled += copied;
+            offset += copied;
+            length -= copied;
+        }
+    }
+
+    void finish() {
+        if (index == 0 ? filled > 0 : filled > overlapBytes) {
+            if (filled < windowBytes) {
+                window = Arrays.copyOf(window, WAV_HEADER_BYTES + filled);
+            }
+            emit(Double.MAX_VALUE);
+        }
+    }
+
+    private void emit(double ownedUntil) {
+        double ownedFrom = index == 0 ? 0 : start + overlapSeconds / 2;
+        onChunk.accept(new Chunk(index, start, ownedFrom, ownedUntil, wav(window, filled)));
+    }
+
+    private int pcmBytes(double seconds) {
+        return (int) (seconds * sampleRate) * BYTES_PER_SAMPLE;
+    }
+
+    private byte[] wav(byte[] buffer, int dataBytes) {
+        ByteBuffer header = ByteBuffer.wrap(buffer, 0, WAV_HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.put("RIFF".getBytes(StandardCharsets.US_ASCII))
+            .putInt(36 + dataBytes)
+            .put("WAVE".getBytes(StandardCharsets.US_ASCII))
+            .put("fmt ".getBytes(StandardCharsets.US_ASCII))
+            .putInt(16)
+            .putShort((short) 1)
+            .putShort((short) 1)
+            .putInt(sampleRate)
+            .putInt(sampleRate * BYTES_PER_SAMPLE)
+            .putShort((short) BYTES_PER_SAMPLE)
+            .putShort((short) 16)
+            .put("data".getBytes(StandardCharsets.US_ASCII))
+            .putInt(dataBytes);
+        return buffer;
+    }
+}
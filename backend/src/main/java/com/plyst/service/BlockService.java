@@ -1,5 +1,7 @@
 package com.plyst.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.plyst.dto.BlockDto;
 import com.plyst.entity.Block;
 import com.plyst.entity.User;
@@ -9,8 +11,12 @@ import com.plyst.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,6 +29,15 @@ public class BlockService {
     private final UserRepository userRepository;
     private final FollowRepository followRepository;
 
+    private static final long BLOCK_CACHE_MAX_SIZE = 10_000;
+    private static final Duration BLOCK_CACHE_TTL = Duration.ofMinutes(10);
+
+    // 차단자별 차단 대상 ID 캐시 (스테이션 입장 등 빈번한 차단 확인용, 크기 제한 + TTL)
+    private final Cache<Integer, Set<Integer>> blockedIdsByBlocker = Caffeine.newBuilder()
+            .maximumSize(BLOCK_CACHE_MAX_SIZE)
+            .expireAfterWrite(BLOCK_CACHE_TTL)
+            .build();
+
     // 차단/차단해제 토글
     public boolean toggleBlock(Integer blockerId, Integer blockedId, String reason) {
         // 자기 자신은 차단할 수 없음
@@ -34,6 +49,7 @@ public class BlockService {
             // 이미 차단 중이면 차단 해제
             blockRepository.findByBlockerIdAndBlockedId(blockerId, blockedId)
                     .ifPresent(block -> blockRepository.delete(block));
+            evict(blockerId);
             return false;
         } else {
             // 차단
@@ -48,6 +64,7 @@ public class BlockService {
                     .reason(reason)
                     .build();
             blockRepository.save(block);
+            evict(blockerId);
 
             // 차단 시 상호 팔로우 관계 해제
             followRepository.findByFollowerIdAndFollowingId(blockerId, blockedId)
@@ -80,6 +97,7 @@ public class BlockService {
                 .reason(reason)
                 .build();
         blockRepository.save(block);
+        evict(blockerId);
 
         // 차단 시 상호 팔로우 관계 해제
         followRepository.findByFollowerIdAndFollowingId(blockerId, blockedId)
@@ -98,6 +116,7 @@ public class BlockService {
 
         blockRepository.findByBlockerIdAndBlockedId(blockerId, blockedId)
                 .ifPresent(blockRepository::delete);
+        evict(blockerId);
         return true;
     }
 
@@ -107,7 +126,9 @@ public class BlockService {
         if (blockerId == null || blockedId == null) {
             return false;
         }
-        return blockRepository.existsByBlockerIdAndBlockedId(blockerId, blockedId);
+        return blockedIdsByBlocker
+                .get(blockerId, id -> Set.copyOf(blockRepository.findBlockedIdsByBlockerId(id)))
+                .contains(blockedId);
     }
 
     // 양방향 차단 확인 (A가 B를 차단했거나 B가 A를 차단한 경우)
@@ -154,6 +175,32 @@ public class BlockService {
         return blockRepository.countByBlockerId(blockerId);
     }
 
+    // 탈퇴 등으로 차단 관계가 일괄 삭제된 사용자의 캐시 제거
+    public void evictUser(Integer userId) {
+        afterCommit(() -> {
+            blockedIdsByBlocker.invalidate(userId);
+            blockedIdsByBlocker.asMap().values().removeIf(blockedIds -> blockedIds.contains(userId));
+        });
+    }
+
+    private void evict(Integer blockerId) {
+        afterCommit(() -> blockedIdsByBlocker.invalidate(blockerId));
+    }
+
+    // 커밋 전에 비우면 동시 조회가 이전 상태를 다시 캐시할 수 있으므로 커밋 이후에 무효화
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
     // 차단 정보 조회 (사유 포함)
     @Transactional(readOnly = true)
     public Block getBlockInfo(Integer blockerId, Integer blockedId) {
@@ -0,0 +1,105 @@
+package com.plyst.service;
+
+import com.plyst.config.ClusterProperties;
+import com.plyst.dto.ClusterDto.ClusterMessage;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterBus {
+
+    public static final String CHANNEL_STATION = "station";
+    public static final String CHANNEL_LOBBY = "lobby";
+    public static final String CHANNEL_GLOBAL = "global";
+    public static final String CHANNEL_REGISTRY = "registry";
+
+    public interface ChannelListener {
+        String channel();
+
+        void onClusterMessage(ClusterMessage message);
+    }
+
+    private final ClusterTransport transport;
+    private final ClusterProperties properties;
+    private final ObjectProvider<ChannelListener> channelListeners;
+
+    private final Map<String, List<ChannelListener>> listenersByChannel = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        transport.setReceiver(this::deliver);
+    }
+
+    public void publishToStation(String channel, Integer stationId, Object payload, boolean droppable) {
+        transport.publish(ClusterMessage.builder()
+                .origin(properties.getNodeId())
+                .channel(channel)
+                .stationId(stationId)
+                .droppable(droppable)
+                .payload(payload)
+                .build());
+    }
+
+    public void publishToStationUser(String channel, Integer stationId, Long userId, Object payload) {
+        transport.publish(ClusterMessage.builder()
+                .origin(properties.getNodeId())
+                .channel(channel)
+                .stationId(stationId)
+                .userId(userId)
+                .payload(payload)
+                .build());
+    }
+
+    public void publishToUser(String channel, Long userId, Object payload) {
+        transport.publish(ClusterMessage.builder()
+                .origin(properties.getNodeId())
+                .channel(channel)
+                .userId(userId)
+                .payload(payload)
+                .build());
+    }
+
+    public void publishExcept(String channel, Long excludeUserId, Object payload) {
+        transport.publish(ClusterMessage.builder()
+                .origin(properties.getNodeId())
+                .channel(channel)
+                .excludeUserId(excludeUserId)
+                .payload(payload)
+                .build());
+    }
+
+    public void publish(String channel, Object payload) {
+        transport.publish(ClusterMessage.builder()
+                .origin(properties.getNodeId())
+                .channel(channel)
+                .payload(payload)
+                .build());
+    }
+
+    public boolean isLocal(ClusterMessage message) {
+        return properties.getNodeId().equals(message.getOrigin());
+    }
+
+    private void deliver(ClusterMessage message) {
+        List<ChannelListener> listeners = listenersByChannel.computeIfAbsent(message.getChannel(), channel ->
+                channelListeners.orderedStream()
+                        .filter(listener -> channel.equals(listener.channel()))
+                        .toList());
+        for (ChannelListener listener : listeners) {
+            try {
+                listener.onClusterMessage(message);
+            } catch (Exception e) {
+                log.error("Failed to deliver cluster message - channel: {}", message.getChannel(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.plyst.service;
+
+import com.plyst.dto.ClusterDto.ClusterMessage;
+
+import java.util.function.Consumer;
+
+public interface ClusterTransport {
+
+    // Delivers to this node synchronously, then to every other node the transport can reach.
+    void publish(ClusterMessage message);
+
+    void setReceiver(Consumer<ClusterMessage> receiver);
+}
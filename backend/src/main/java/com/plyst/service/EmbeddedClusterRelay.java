@@ -0,0 +1,90 @@
+package com.plyst.service;
+
+import com.plyst.config.ClusterProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cluster.relay.embedded", havingValue = "true")
+public class EmbeddedClusterRelay {
+
+    private final ClusterProperties properties;
+
+    private final Map<Socket, BufferedWriter> connections = new ConcurrentHashMap<>();
+    private volatile ServerSocket serverSocket;
+
+    @PostConstruct
+    public void start() throws IOException {
+        serverSocket = new ServerSocket(properties.getRelay().getPort());
+        Thread.ofVirtual().name("cluster-relay-accept").start(this::acceptLoop);
+        log.info("Embedded cluster relay listening - port: {}", properties.getRelay().getPort());
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        serverSocket.close();
+        for (Socket connection : connections.keySet()) {
+            connection.close();
+        }
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket connection = serverSocket.accept();
+                connection.setTcpNoDelay(true);
+                connections.put(connection, new BufferedWriter(
+                        new OutputStreamWriter(connection.getOutputStream(), StandardCharsets.UTF_8)));
+                Thread.ofVirtual().name("cluster-relay-node").start(() -> relay(connection));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    log.warn("Cluster relay accept failed - reason: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void relay(Socket source) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(source.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                fanOut(line);
+            }
+        } catch (IOException e) {
+            log.debug("Cluster relay node disconnected - {}", source.getRemoteSocketAddress());
+        } finally {
+            connections.remove(source);
+        }
+    }
+
+    private void fanOut(String line) {
+        connections.forEach((connection, writer) -> {
+            try {
+                synchronized (writer) {
+                    writer.write(line);
+                    writer.write('\n');
+                    writer.flush();
+                }
+            } catch (IOException e) {
+                connections.remove(connection);
+            }
+        });
+    }
+}
@@ -0,0 +1,24 @@
+package com.plyst.service;
+
+import com.plyst.dto.ClusterDto.ClusterMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+@Component
+@ConditionalOnProperty(name = "cluster.transport", havingValue = "in-jvm", matchIfMissing = true)
+public class InJvmClusterTransport implements ClusterTransport {
+
+    private volatile Consumer<ClusterMessage> receiver = message -> { };
+
+    @Override
+    public void publish(ClusterMessage message) {
+        receiver.accept(message);
+    }
+
+    @Override
+    public void setReceiver(Consumer<ClusterMessage> receiver) {
+        this.receiver = receiver;
+    }
+}
@@ -0,0 +1,37 @@
+package com.plyst.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.plyst.service.WebSocketMessageCodec.WireEncoding;
+import lombok.Getter;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter
+public class OutboundFrame {
+
+    private final Object payload;
+    private final Map<WireEncoding, byte[]> encoded = new EnumMap<>(WireEncoding.class);
+
+    public OutboundFrame(Object payload) {
+        this.payload = payload;
+    }
+
+    // Serialized at most once per wire encoding, no matter how many transports or sessions deliver it.
+    public synchronized byte[] bytes(WireEncoding encoding, WebSocketMessageCodec codec) throws JsonProcessingException {
+        byte[] bytes = encoded.get(encoding);
+        if (bytes == null) {
+            bytes = codec.encodeBytes(payload, encoding);
+            encoded.put(encoding, bytes);
+        }
+        return bytes;
+    }
+
+    public WebSocketMessage<?> message(WireEncoding encoding, WebSocketMessageCodec codec) throws JsonProcessingException {
+        byte[] bytes = bytes(encoding, codec);
+        return encoding == WireEncoding.CBOR ? new BinaryMessage(bytes) : new TextMessage(bytes);
+    }
+}
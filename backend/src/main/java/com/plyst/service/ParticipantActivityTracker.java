@@ -0,0 +1,160 @@
+package com.plyst.service;
+
+import com.plyst.dto.StationDto.ParticipantReapResult;
+import com.plyst.service.StationStateRegistry.StationState;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParticipantActivityTracker {
+
+    public interface ReapListener {
+        void onParticipantsReaped(Integer stationId, ParticipantReapResult result);
+    }
+
+    private static final String UPDATE_LAST_ACTIVE_SQL =
+            "UPDATE station_participants SET last_active_at = ? WHERE station_id = ? AND user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StationService stationService;
+    private final StationStateRegistry stationStateRegistry;
+    private final StationClusterRouter clusterRouter;
+    private final StationExecutor stationExecutor;
+    private final ObjectProvider<ReapListener> reapListeners;
+
+    @Value("${station.activity.idle-timeout-ms:120000}")
+    private long idleTimeoutMs;
+
+    private final Map<Integer, Map<Integer, Long>> lastActive = new ConcurrentHashMap<>();
+    private final Map<Integer, Set<Integer>> dirty = new ConcurrentHashMap<>();
+
+    public void touch(Integer stationId, Integer userId) {
+        if (stationId == null || userId == null) {
+            return;
+        }
+        lastActive.computeIfAbsent(stationId, id -> new ConcurrentHashMap<>()).put(userId, System.currentTimeMillis());
+        dirty.computeIfAbsent(stationId, id -> ConcurrentHashMap.newKeySet()).add(userId);
+    }
+
+    public void remove(Integer stationId) {
+        lastActive.remove(stationId);
+        dirty.remove(stationId);
+    }
+
+    public void removeUser(Integer stationId, Integer userId) {
+        lastActive.computeIfPresent(stationId, (id, users) -> {
+            users.remove(userId);
+            return users.isEmpty() ? null : users;
+        });
+        dirty.computeIfPresent(stationId, (id, users) -> {
+            users.remove(userId);
+            return users.isEmpty() ? null : users;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${station.activity.flush-interval-ms:5000}")
+    public void flush() {
+        List<Object[]> rows = new ArrayList<>();
+        for (Integer stationId : List.copyOf(dirty.keySet())) {
+            Set<Integer> userIds = dirty.remove(stationId);
+            Map<Integer, Long> activity = lastActive.get(stationId);
+            if (userIds == null || activity == null) {
+                continue;
+            }
+            for (Integer userId : userIds) {
+                Long timestamp = activity.get(userId);
+                if (timestamp != null) {
+                    rows.add(new Object[]{toTimestamp(timestamp), stationId, userId});
+                }
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_LAST_ACTIVE_SQL, rows);
+            log.debug("Participant activity flushed - rows: {}", rows.size());
+        } catch (Exception e) {
+            log.error("Failed to flush participant activity - rows: {}", rows.size(), e);
+            rows.forEach(row -> dirty.computeIfAbsent((Integer) row[1], id -> ConcurrentHashMap.newKeySet()).add((Integer) row[2]));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    @Scheduled(fixedDelayString = "${station.activity.reap-interval-ms:30000}")
+    public void reapIdleParticipants() {
+        long now = System.currentTimeMillis();
+        for (StationState state : stationStateRegistry.getLoadedStates()) {
+            Integer stationId = state.getStationId();
+            if (!clusterRouter.isLocal(stationId)) {
+                continue;
+            }
+            Map<Integer, Long> activity = lastActive.computeIfAbsent(stationId, id -> new ConcurrentHashMap<>());
+
+            List<Integer> idleUserIds = new ArrayList<>();
+            for (Integer userId : state.getParticipants().keySet()) {
+                // Participants never seen since startup get a full idle window before they can be reaped.
+                long seenAt = activity.computeIfAbsent(userId, id -> now);
+                if (now - seenAt > idleTimeoutMs) {
+                    idleUserIds.add(userId);
+                }
+            }
+            if (idleUserIds.isEmpty()) {
+                continue;
+            }
+
+            stationExecutor.execute(stationId, () -> reap(stationId, idleUserIds, activity));
+        }
+    }
+
+    private void reap(Integer stationId, List<Integer> idleUserIds, Map<Integer, Long> activity) {
+        // Anyone who spoke up while the task waited in the mailbox is no longer idle.
+        long now = System.currentTimeMillis();
+        idleUserIds.removeIf(userId -> now - activity.getOrDefault(userId, now) <= idleTimeoutMs);
+        if (idleUserIds.isEmpty()) {
+            return;
+        }
+        try {
+            ParticipantReapResult result = stationService.reapIdleParticipants(stationId, idleUserIds);
+            if (result == null) {
+                return;
+            }
+            result.getUserIds().forEach(activity::remove);
+            if (result.isClosed()) {
+                remove(stationId);
+            }
+            log.info("Idle participants removed - stationId: {}, userIds: {}, newHostId: {}",
+                    stationId, result.getUserIds(), result.getNewHostId());
+            reapListeners.orderedStream().forEach(listener -> listener.onParticipantsReaped(stationId, result));
+        } catch (Exception e) {
+            log.error("Failed to reap idle participants - stationId: {}", stationId, e);
+        }
+    }
+
+    private Timestamp toTimestamp(long epochMillis) {
+        return Timestamp.valueOf(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault()));
+    }
+}
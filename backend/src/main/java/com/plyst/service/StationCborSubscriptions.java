@@ -0,0 +1,67 @@
+package com.plyst.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+public class StationCborSubscriptions {
+
+    public static final String DESTINATION_SUFFIX = "/cbor";
+
+    private static final Pattern DESTINATION = Pattern.compile("^/topic/station/(\\d+)/cbor$");
+
+    private final Map<String, Integer> subscriptionStations = new ConcurrentHashMap<>();
+    private final Map<Integer, Set<String>> stationSubscriptions = new ConcurrentHashMap<>();
+
+    public void subscribe(String sessionId, String subscriptionId, String destination) {
+        if (destination == null) {
+            return;
+        }
+        Matcher matcher = DESTINATION.matcher(destination);
+        if (!matcher.matches()) {
+            return;
+        }
+
+        Integer stationId = Integer.valueOf(matcher.group(1));
+        String key = key(sessionId, subscriptionId);
+        subscriptionStations.put(key, stationId);
+        stationSubscriptions.computeIfAbsent(stationId, k -> ConcurrentHashMap.newKeySet()).add(key);
+    }
+
+    public void unsubscribe(String sessionId, String subscriptionId) {
+        remove(key(sessionId, subscriptionId));
+    }
+
+    public void disconnect(String sessionId) {
+        String prefix = sessionId + ":";
+        subscriptionStations.keySet().stream()
+                .filter(key -> key.startsWith(prefix))
+                .toList()
+                .forEach(this::remove);
+    }
+
+    public boolean hasSubscribers(Integer stationId) {
+        Set<String> subscriptions = stationSubscriptions.get(stationId);
+        return subscriptions != null && !subscriptions.isEmpty();
+    }
+
+    private void remove(String key) {
+        Integer stationId = subscriptionStations.remove(key);
+        if (stationId == null) {
+            return;
+        }
+        stationSubscriptions.computeIfPresent(stationId, (id, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    private String key(String sessionId, String subscriptionId) {
+        return sessionId + ":" + subscriptionId;
+    }
+}
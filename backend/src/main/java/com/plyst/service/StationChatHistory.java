@@ -0,0 +1,72 @@
+package com.plyst.service;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.plyst.config.StationChatProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@RequiredArgsConstructor
+public class StationChatHistory {
+
+    private final StationChatProperties properties;
+
+    private final Map<Integer, ChatRing> histories = new ConcurrentHashMap<>();
+
+    public long append(Integer stationId, ObjectNode message) {
+        return histories.computeIfAbsent(stationId, id -> new ChatRing(properties.getHistorySize()))
+                .append(message);
+    }
+
+    public List<ObjectNode> since(Integer stationId, long sinceSeq) {
+        ChatRing ring = histories.get(stationId);
+        return ring != null ? ring.since(sinceSeq) : List.of();
+    }
+
+    public List<ObjectNode> recent(Integer stationId) {
+        return since(stationId, 0);
+    }
+
+    public long latestSeq(Integer stationId) {
+        ChatRing ring = histories.get(stationId);
+        return ring != null ? ring.latestSeq() : 0;
+    }
+
+    public void remove(Integer stationId) {
+        histories.remove(stationId);
+    }
+
+    private static final class ChatRing {
+        private final ObjectNode[] entries;
+        private long nextSeq = 1;
+
+        ChatRing(int capacity) {
+            this.entries = new ObjectNode[Math.max(1, capacity)];
+        }
+
+        synchronized long append(ObjectNode message) {
+            long seq = nextSeq++;
+            message.put("seq", seq);
+            entries[(int) (seq % entries.length)] = message;
+            return seq;
+        }
+
+        synchronized List<ObjectNode> since(long sinceSeq) {
+            long from = Math.max(sinceSeq + 1, nextSeq - entries.length);
+            List<ObjectNode> messages = new ArrayList<>((int) Math.max(0, nextSeq - from));
+            for (long seq = from; seq < nextSeq; seq++) {
+                messages.add(entries[(int) (seq % entries.length)]);
+            }
+            return messages;
+        }
+
+        synchronized long latestSeq() {
+            return nextSeq - 1;
+        }
+    }
+}
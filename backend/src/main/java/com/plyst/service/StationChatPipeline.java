@@ -0,0 +1,131 @@
+package com.plyst.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.plyst.config.StationChatProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StationChatPipeline {
+
+    public interface ChatBatchListener {
+        void onChatBatch(Integer stationId, ObjectNode batch);
+    }
+
+    private final StationChatProperties properties;
+    private final ObjectMapper objectMapper;
+    private final StationChatHistory chatHistory;
+    private final ObjectProvider<ChatBatchListener> listeners;
+
+    private final Map<Integer, Queue<ObjectNode>> pendingMessages = new ConcurrentHashMap<>();
+    private final Map<Integer, TokenBucket> rateLimits = new ConcurrentHashMap<>();
+
+    public boolean submit(Integer stationId, Integer userId, ObjectNode message) {
+        long now = System.currentTimeMillis();
+        TokenBucket bucket = rateLimits.computeIfAbsent(userId,
+                id -> new TokenBucket(properties.getBurstCapacity(), properties.getRefillPerSecond(), now));
+        if (!bucket.tryConsume(now)) {
+            log.debug("Chat rate limited - stationId: {}, userId: {}", stationId, userId);
+            return false;
+        }
+
+        pendingMessages.compute(stationId, (id, queue) -> {
+            Queue<ObjectNode> target = queue != null ? queue : new ConcurrentLinkedQueue<>();
+            message.put("serverTime", now);
+            chatHistory.append(stationId, message);
+            target.offer(message);
+            return target;
+        });
+        return true;
+    }
+
+    public void remove(Integer stationId) {
+        pendingMessages.remove(stationId);
+        chatHistory.remove(stationId);
+    }
+
+    @Scheduled(fixedDelayString = "${station.chat.flush-interval-ms:100}")
+    public void flush() {
+        for (Map.Entry<Integer, Queue<ObjectNode>> entry : pendingMessages.entrySet()) {
+            Integer stationId = entry.getKey();
+            ArrayNode messages = drain(entry.getValue());
+            if (messages.isEmpty()) {
+                pendingMessages.computeIfPresent(stationId, (id, queue) -> queue.isEmpty() ? null : queue);
+                continue;
+            }
+
+            ObjectNode batch = objectMapper.createObjectNode();
+            batch.put("type", "chat_batch");
+            batch.set("messages", messages);
+            publish(stationId, batch);
+        }
+
+        long now = System.currentTimeMillis();
+        rateLimits.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    private ArrayNode drain(Queue<ObjectNode> queue) {
+        // Anything beyond the cap stays queued for the next tick.
+        ArrayNode messages = objectMapper.createArrayNode();
+        ObjectNode message;
+        while (messages.size() < properties.getMaxBatchSize() && (message = queue.poll()) != null) {
+            messages.add(message);
+        }
+        return messages;
+    }
+
+    private void publish(Integer stationId, ObjectNode batch) {
+        listeners.orderedStream().forEach(listener -> {
+            try {
+                listener.onChatBatch(stationId, batch);
+            } catch (Exception e) {
+                log.error("Failed to deliver chat batch - stationId: {}", stationId, e);
+            }
+        });
+    }
+
+    static final class TokenBucket {
+        private final double capacity;
+        private final double refillPerMs;
+        private double tokens;
+        private long refilledAt;
+
+        TokenBucket(double capacity, double refillPerSecond, long now) {
+            this.capacity = capacity;
+            this.refillPerMs = refillPerSecond / 1000.0;
+            this.tokens = capacity;
+            this.refilledAt = now;
+        }
+
+        synchronized boolean tryConsume(long now) {
+            refill(now);
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+
+        synchronized boolean isFull(long now) {
+            refill(now);
+            return tokens >= capacity;
+        }
+
+        private void refill(long now) {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * refillPerMs);
+            refilledAt = now;
+        }
+    }
+}
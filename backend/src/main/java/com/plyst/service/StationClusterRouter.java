@@ -0,0 +1,68 @@
+package com.plyst.service;
+
+import com.plyst.config.ClusterProperties;
+import com.plyst.config.ClusterProperties.Node;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StationClusterRouter {
+
+    private final ClusterProperties properties;
+
+    private volatile NavigableMap<Long, Node> ring = new TreeMap<>();
+
+    @PostConstruct
+    public void init() {
+        NavigableMap<Long, Node> built = new TreeMap<>();
+        for (Node node : properties.getNodes()) {
+            for (int i = 0; i < properties.getVirtualNodes(); i++) {
+                built.put(hash(node.getId() + "#" + i), node);
+            }
+        }
+        ring = built;
+        if (!built.isEmpty()) {
+            log.info("Station router initialized - nodes: {}, nodeId: {}", properties.getNodes().size(), properties.getNodeId());
+        }
+    }
+
+    public Node ownerOf(Integer stationId) {
+        NavigableMap<Long, Node> current = ring;
+        if (current.isEmpty()) {
+            return null;
+        }
+        Map.Entry<Long, Node> entry = current.ceilingEntry(hash("station:" + stationId));
+        return entry != null ? entry.getValue() : current.firstEntry().getValue();
+    }
+
+    public boolean isClustered() {
+        return properties.getNodes().size() > 1;
+    }
+
+    // Single-node deployments own every station.
+    public boolean isLocal(Integer stationId) {
+        Node owner = ownerOf(stationId);
+        return owner == null || properties.getNodeId().equals(owner.getId());
+    }
+
+    private static long hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
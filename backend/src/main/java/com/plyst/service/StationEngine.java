@@ -0,0 +1,601 @@
+package com.plyst.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.plyst.dto.ClusterDto.ClusterMessage;
+import com.plyst.dto.StationDto.*;
+import com.plyst.dto.SubtitleDto.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StationEngine implements StationChatPipeline.ChatBatchListener, ParticipantActivityTracker.ReapListener,
+        StationPlaybackHeartbeat.HeartbeatListener, ClusterBus.ChannelListener {
+
+    private static final String TYPE_STATION_CLOSED = "station_closed";
+
+    // Each transport only owns its sessions; frames reach it already routed and lazily encoded once for all of them.
+    public interface Transport {
+        void deliver(Integer stationId, OutboundFrame frame, boolean droppable, boolean local);
+
+        void disconnectUser(Integer stationId, Integer userId, OutboundFrame frame, boolean local);
+
+        void closeStation(Integer stationId, OutboundFrame frame, boolean local);
+    }
+
+    private final ObjectMapper objectMapper;
+    private final StationService stationService;
+    private final SubtitleService subtitleService;
+    private final SubtitlePrefetcher subtitlePrefetcher;
+    private final StationChatPipeline chatPipeline;
+    private final StationChatHistory chatHistory;
+    private final StationExecutor stationExecutor;
+    private final StationQueueStore stationQueueStore;
+    private final StationMediaState mediaState;
+    private final StationSnapshotService snapshotService;
+    private final ParticipantActivityTracker activityTracker;
+    private final ClusterBus clusterBus;
+    private final ObjectProvider<Transport> transports;
+
+    public ObjectNode connect(Integer stationId, Integer userId) {
+        activityTracker.touch(stationId, userId);
+        return buildStationDetail(stationId);
+    }
+
+    public void announceJoin(Integer stationId, Integer userId) {
+        stationExecutor.execute(stationId, () -> {
+            ParticipantInfo participant = stationService.getParticipant(stationId, userId);
+            if (participant == null) {
+                return;
+            }
+
+            ObjectNode response = objectMapper.createObjectNode();
+            response.put("type", "participant_joined");
+            response.put("version", stationService.getRosterVersion(stationId));
+            response.set("participant", objectMapper.valueToTree(participant));
+            broadcastToStation(stationId, response);
+        });
+    }
+
+    public void disconnected(Integer stationId, Integer userId) {
+        stationExecutor.execute(stationId, () -> {
+            if (stationService.getParticipant(stationId, userId) == null) {
+                activityTracker.removeUser(stationId, userId);
+                broadcastParticipantLeft(stationId, userId, "leave");
+            }
+        });
+    }
+
+    // Clock samples are answered inline so mailbox queueing never skews the measured round trip.
+    public ObjectNode timeSync(JsonNode json, long receivedAt) {
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("type", "time_sync");
+        response.set("t0", json.get("t0"));
+        response.put("t1", receivedAt);
+        response.put("t2", System.currentTimeMillis());
+        return response;
+    }
+
+    public void handle(Integer stationId, Integer userId, String type, JsonNode json, Consumer<Object> reply) {
+        stationExecutor.execute(stationId, () -> {
+            switch (type) {
+                case "playback_update" -> handlePlaybackUpdate(stationId, userId, json);
+                case "chat" -> handleChat(stationId, userId, json, reply);
+                case "sync_request" -> handleSyncRequest(stationId, reply);
+                case "roster_request" -> handleRosterRequest(stationId, reply);
+                case "chat_history" -> handleChatHistory(stationId, json, reply);
+                case "volume_update" -> handleVolumeUpdate(stationId, userId, json);
+                case "queue_update" -> handleQueueUpdate(stationId, userId, json);
+                case "queue_add" -> handleQueueAdd(stationId, userId, json);
+                case "queue_op" -> handleQueueOp(stationId, userId, json);
+                case "queue_sync" -> handleQueueSync(stationId, json, reply);
+                case "subtitle_enable" -> handleSubtitleEnable(stationId, userId, json);
+                case "subtitle_disable" -> handleSubtitleDisable(stationId, userId);
+                case "subtitle_status" -> handleSubtitleStatus(stationId, json, reply);
+                default -> log.debug("Unknown message type: {}", type);
+            }
+        });
+    }
+
+    private ObjectNode buildStationDetail(Integer stationId) {
+        snapshotService.restore(stationId);
+        StationDetailResponse stationDetail = stationService.getStationDetail(stationId);
+        String videoId = mediaState.getVideoId(stationId);
+        QueueSnapshot queue = stationQueueStore.snapshot(stationId);
+        Integer volume = mediaState.getVolume(stationId);
+
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("type", "station_detail");
+        response.set("station", objectMapper.valueToTree(stationDetail));
+        if (videoId != null) {
+            response.put("videoId", videoId);
+        }
+        response.set("queue", objectMapper.valueToTree(queue.getItems()));
+        response.put("queueSeq", queue.getSeq());
+        if (volume != null) {
+            response.put("volume", volume);
+        }
+        response.put("serverTime", System.currentTimeMillis());
+        response.set("chatHistory", objectMapper.createArrayNode().addAll(chatHistory.recent(stationId)));
+
+        if (videoId != null && subtitleService.isSubtitleEnabled(stationId)) {
+            response.put("subtitleEnabled", true);
+            SubtitleResponse subtitleStatus = subtitleService.getSubtitleStatus(videoId);
+            if (subtitleStatus.isAvailable()) {
+                response.set("subtitleSegments", objectMapper.valueToTree(subtitleStatus.getSegments()));
+                response.put("subtitleLanguage", subtitleStatus.getOriginalLanguage());
+            }
+        }
+        return response;
+    }
+
+    private void handlePlaybackUpdate(Integer stationId, Integer userId, JsonNode json) {
+        if (!stationService.isHost(stationId, userId)) {
+            log.warn("Non-host tried to update playback - stationId: {}, userId: {}", stationId, userId);
+            return;
+        }
+
+        try {
+            JsonNode payloadNode = json.get("payload");
+            if (payloadNode == null) {
+                return;
+            }
+
+            PlaybackUpdateMessage playbackUpdate = objectMapper.treeToValue(payloadNode, PlaybackUpdateMessage.class);
+            boolean significant = stationService.updatePlayback(stationId, playbackUpdate);
+
+            String videoId = json.has("videoId") ? json.get("videoId").asText() : null;
+            String previousVideoId = mediaState.getVideoId(stationId);
+            if (videoId != null) {
+                mediaState.setVideoId(stationId, videoId);
+
+                if (!videoId.equals(previousVideoId)) {
+                    significant = true;
+                    enableSubtitles(stationId, videoId);
+                    log.info("새 영상 자막 자동 활성화: stationId={}, videoId={}", stationId, videoId);
+                }
+            }
+
+            // Routine position reports only refresh the model; listeners converge on playback_heartbeat.
+            if (!significant) {
+                return;
+            }
+
+            ObjectNode response = objectMapper.createObjectNode();
+            response.put("type", "playback_update");
+            response.set("payload", toAuthoritativePayload(stationId, payloadNode));
+            if (videoId != null) {
+                response.put("videoId", videoId);
+            }
+            response.put("serverTime", System.currentTimeMillis());
+            response.put("senderId", userId);
+
+            broadcastToStation(stationId, response, true);
+
+        } catch (Exception e) {
+            log.error("Failed to process playback update", e);
+        }
+    }
+
+    private JsonNode toAuthoritativePayload(Integer stationId, JsonNode payloadNode) {
+        PlaybackInfo playback = stationService.getPlayback(stationId);
+        if (playback == null || !payloadNode.isObject()) {
+            return payloadNode;
+        }
+
+        ObjectNode payload = payloadNode.deepCopy();
+        payload.put("positionMs", playback.getPositionMs());
+        payload.put("isPlaying", playback.getIsPlaying());
+        payload.put("playbackRate", playback.getPlaybackRate());
+        payload.put("serverTime", playback.getServerTime());
+        payload.remove("capturedAt");
+        return payload;
+    }
+
+    private void handleChat(Integer stationId, Integer userId, JsonNode json, Consumer<Object> reply) {
+        try {
+            String messageText = json.has("message") ? json.get("message").asText() : null;
+            if (messageText == null || messageText.isBlank()) {
+                return;
+            }
+
+            ParticipantInfo sender = stationService.getParticipant(stationId, userId);
+
+            ObjectNode userNode = objectMapper.createObjectNode();
+            userNode.put("id", userId);
+            userNode.put("nickname", sender != null ? sender.getNickname() : "Unknown");
+            if (sender != null && sender.getAvatar() != null) {
+                userNode.put("avatar", sender.getAvatar());
+            }
+
+            ObjectNode response = objectMapper.createObjectNode();
+            response.put("type", "chat");
+            response.set("user", userNode);
+            response.put("message", messageText);
+            response.put("sentAt", LocalDateTime.now().toString());
+
+            if (!chatPipeline.submit(stationId, userId, response)) {
+                reply.accept(Map.of("type", "chat_rejected", "reason", "rate_limited"));
+            }
+
+        } catch (Exception e) {
+            log.error("Failed to process chat message", e);
+        }
+    }
+
+    private void handleSyncRequest(Integer stationId, Consumer<Object> reply) {
+        try {
+            reply.accept(buildStationDetail(stationId));
+        } catch (Exception e) {
+            log.error("Failed to process sync request", e);
+        }
+    }
+
+    private void handleRosterRequest(Integer stationId, Consumer<Object> reply) {
+        RosterSnapshot roster = stationService.getRoster(stationId);
+        if (roster == null) {
+            return;
+        }
+
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("type", "roster_snapshot");
+        response.put("version", roster.getVersion());
+        response.set("participants", objectMapper.valueToTree(roster.getParticipants()));
+        response.set("host", objectMapper.valueToTree(roster.getHost()));
+        reply.accept(response);
+    }
+
+    private void handleChatHistory(Integer stationId, JsonNode json, Consumer<Object> reply) {
+        long since = json.path("since").asLong(0);
+
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("type", "chat_history");
+        response.put("latestSeq", chatHistory.latestSeq(stationId));
+        response.set("messages", objectMapper.createArrayNode().addAll(chatHistory.since(stationId, since)));
+        reply.accept(response);
+    }
+
+    private void handleVolumeUpdate(Integer stationId, Integer userId, JsonNode json) {
+        if (!stationService.isHost(stationId, userId)) {
+            return;
+        }
+        try {
+            int volume = json.has("volume") ? json.get("volume").asInt() : 100;
+            mediaState.setVolume(stationId, volume);
+
+            ObjectNode response = objectMapper.createObjectNode();
+            response.put("type", "volume_update");
+            response.put("volume", volume);
+
+            broadcastToStation(stationId, response);
+        } catch (Exception e) {
+            log.error("Failed to process volume update", e);
+        }
+    }
+
+    private void handleQueueUpdate(Integer stationId, Integer userId, JsonNode json) {
+        if (!stationService.isHost(stationId, userId)) {
+            return;
+        }
+        try {
+            List<QueueItem> items = objectMapper.convertValue(json.get("queue"), new TypeReference<List<QueueItem>>() {});
+            broadcastQueueOperation(stationId, stationQueueStore.replace(stationId, items, userId));
+        } catch (Exception e) {
+            log.error("Failed to process queue update", e);
+        }
+    }
+
+    private void handleQueueAdd(Integer stationId, Integer userId, JsonNode json) {
+        try {
+            QueueItem item = objectMapper.treeToValue(json.path("item"), QueueItem.class);
+            broadcastQueueOperation(stationId, stationQueueStore.insert(stationId, item, null, userId));
+        } catch (Exception e) {
+            log.error("Failed to process queue add", e);
+        }
+    }
+
+    private void handleQueueOp(Integer stationId, Integer userId, JsonNode json) {
+        boolean host = stationService.isHost(stationId, userId);
+        String itemId = json.path("itemId").asText(null);
+        Integer index = json.hasNonNull("index") ? json.get("index").asInt() : null;
+        try {
+            QueueOperation operation = switch (json.path("op").asText()) {
+                case StationQueueStore.OP_INSERT -> stationQueueStore.insert(stationId,
+                        objectMapper.treeToValue(json.path("item"), QueueItem.class), index, userId);
+                case StationQueueStore.OP_REMOVE -> host ? stationQueueStore.remove(stationId, itemId) : null;
+                case StationQueueStore.OP_MOVE -> host ? stationQueueStore.move(stationId, itemId, index) : null;
+                default -> null;
+            };
+            broadcastQueueOperation(stationId, operation);
+        } catch (Exception e) {
+            log.error("Failed to process queue op", e);
+        }
+    }
+
+    private void handleQueueSync(Integer stationId, JsonNode json, Consumer<Object> reply) {
+        List<QueueOperation> operations = stationQueueStore.operationsSince(stationId, json.path("since").asLong(0));
+
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("type", "queue_sync");
+        if (operations != null) {
+            response.set("operations", objectMapper.valueToTree(operations));
+        } else {
+            QueueSnapshot snapshot = stationQueueStore.snapshot(stationId);
+            response.put("seq", snapshot.getSeq());
+            response.set("items", objectMapper.valueToTree(snapshot.getItems()));
+        }
+        reply.accept(response);
+    }
+
+    private void broadcastQueueOperation(Integer stationId, QueueOperation operation) {
+        if (operation == null) {
+            return;
+        }
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("type", "queue_op");
+        response.set("operation", objectMapper.valueToTree(operation));
+        broadcastToStation(stationId, response);
+        subtitlePrefetcher.prefetch(stationId);
+    }
+
+    private void handleSubtitleEnable(Integer stationId, Integer userId, JsonNode json) {
+        if (!stationService.isHost(stationId, userId)) {
+            return;
+        }
+        try {
+            String videoId = json.has("videoId") ? json.get("videoId").asText() : mediaState.getVideoId(stationId);
+            if (videoId == null) {
+                return;
+            }
+
+            enableSubtitles(stationId, videoId);
+            log.info("자막 활성화: stationId={}, videoId={}", stationId, videoId);
+        } catch (Exception e) {
+            log.error("Failed to enable subtitles", e);
+        }
+    }
+
+    private void enableSubtitles(Integer stationId, String videoId) {
+        subtitleService.enableSubtitles(stationId, videoId, (subtitleResponse) -> {
+            ObjectNode response = objectMapper.createObjectNode();
+            response.put("type", "subtitle_ready");
+            response.put("videoId", subtitleResponse.getVideoId());
+            response.put("available", subtitleResponse.isAvailable());
+            response.put("processing", subtitleResponse.isProcessing());
+            response.put("originalLanguage", subtitleResponse.getOriginalLanguage());
+            response.set("segments", objectMapper.valueToTree(subtitleResponse.getSegments()));
+            broadcastToStation(stationId, response);
+        }, (partialVideoId, chunkIndex, segments) -> {
+            ObjectNode response = objectMapper.createObjectNode();
+            response.put("type", "subtitle_partial");
+            response.put("videoId", partialVideoId);
+            response.put("chunkIndex", chunkIndex);
+            response.put("originalLanguage", segments.get(0).getOriginalLanguage());
+            response.set("segments", objectMapper.valueToTree(segments));
+            broadcastToStation(stationId, response);
+        });
+
+        ObjectNode enabledResponse = objectMapper.createObjectNode();
+        enabledResponse.put("type", "subtitle_enabled");
+        enabledResponse.put("videoId", videoId);
+        broadcastToStation(stationId, enabledResponse);
+        subtitlePrefetcher.prefetch(stationId);
+    }
+
+    private void handleSubtitleDisable(Integer stationId, Integer userId) {
+        if (!stationService.isHost(stationId, userId)) {
+            return;
+        }
+        try {
+            subtitleService.disableSubtitles(stationId);
+
+            ObjectNode response = objectMapper.createObjectNode();
+            response.put("type", "subtitle_disabled");
+            broadcastToStation(stationId, response);
+
+            log.info("자막 비활성화: stationId={}", stationId);
+        } catch (Exception e) {
+            log.error("Failed to disable subtitles", e);
+        }
+    }
+
+    private void handleSubtitleStatus(Integer stationId, JsonNode json, Consumer<Object> reply) {
+        try {
+            String videoId = json.has("videoId") ? json.get("videoId").asText() : mediaState.getVideoId(stationId);
+            if (videoId == null) {
+                return;
+            }
+
+            SubtitleResponse status = subtitleService.getSubtitleStatus(videoId);
+
+            ObjectNode response = objectMapper.createObjectNode();
+            response.put("type", "subtitle_status");
+            response.put("videoId", status.getVideoId());
+            response.put("available", status.isAvailable());
+            response.put("processing", status.isProcessing());
+            response.put("enabled", subtitleService.isSubtitleEnabled(stationId));
+            if (status.isAvailable()) {
+                response.put("originalLanguage", status.getOriginalLanguage());
+                response.set("segments", objectMapper.valueToTree(status.getSegments()));
+            }
+
+            reply.accept(response);
+        } catch (Exception e) {
+            log.error("Failed to get subtitle status", e);
+        }
+    }
+
+    // REST-side roster changes run in the station mailbox so they never interleave with socket handlers.
+    public Integer leaveStation(Integer stationId, Integer userId) {
+        return stationExecutor.call(stationId, () -> {
+            Integer newHostId = stationService.leaveStation(stationId, userId);
+            broadcastParticipantLeft(stationId, userId, "leave");
+            if (newHostId != null) {
+                broadcastHostChanged(stationId, newHostId);
+            }
+            return newHostId;
+        });
+    }
+
+    public Integer transferHost(Integer stationId, Integer userId, Integer newHostId) {
+        return stationExecutor.call(stationId, () -> {
+            Integer result = stationService.transferHost(stationId, userId, newHostId);
+            broadcastHostChanged(stationId, newHostId);
+            return result;
+        });
+    }
+
+    public void banUser(Integer stationId, Integer userId, Integer targetUserId) {
+        stationExecutor.call(stationId, () -> {
+            stationService.banUser(stationId, userId, targetUserId);
+            notifyUserKicked(stationId, targetUserId, "banned");
+            return null;
+        });
+    }
+
+    public void broadcastParticipantLeft(Integer stationId, Integer userId, String action) {
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("type", "participant_left");
+        response.put("version", stationService.getRosterVersion(stationId));
+        response.put("userId", userId);
+        response.put("action", action);
+        broadcastToStation(stationId, response);
+    }
+
+    public void notifyUserKicked(Integer stationId, Integer userId, String reason) {
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("type", "kicked");
+        if (reason != null) {
+            response.put("reason", reason);
+        }
+        clusterBus.publishToStationUser(ClusterBus.CHANNEL_STATION, stationId, userId.longValue(), response);
+
+        broadcastParticipantLeft(stationId, userId, "kick");
+    }
+
+    public void broadcastHostChanged(Integer stationId, Integer newHostId) {
+        try {
+            RosterSnapshot roster = stationService.getRoster(stationId);
+            if (roster == null) {
+                return;
+            }
+
+            ObjectNode response = objectMapper.createObjectNode();
+            response.put("type", "role_changed");
+            response.put("version", roster.getVersion());
+            response.put("userId", newHostId);
+            response.put("role", "HOST");
+            response.set("host", objectMapper.valueToTree(roster.getHost()));
+
+            broadcastToStation(stationId, response);
+        } catch (Exception e) {
+            log.error("Failed to broadcast host changed", e);
+        }
+    }
+
+    public void broadcastTitleChanged(Integer stationId, String newTitle) {
+        try {
+            ObjectNode response = objectMapper.createObjectNode();
+            response.put("type", "title_changed");
+            response.put("title", newTitle);
+            broadcastToStation(stationId, response);
+        } catch (Exception e) {
+            log.error("Failed to broadcast title changed", e);
+        }
+    }
+
+    public void notifyStationClosed(Integer stationId) {
+        chatPipeline.remove(stationId);
+        stationExecutor.execute(stationId, () -> {
+            mediaState.remove(stationId);
+            stationQueueStore.clear(stationId);
+            subtitleService.cleanup(stationId);
+
+            ObjectNode response = objectMapper.createObjectNode();
+            response.put("type", TYPE_STATION_CLOSED);
+            broadcastToStation(stationId, response);
+        });
+    }
+
+    @Override
+    public void onChatBatch(Integer stationId, ObjectNode batch) {
+        broadcastToStation(stationId, batch);
+    }
+
+    @Override
+    public void onPlaybackHeartbeat(Integer stationId, ObjectNode heartbeat) {
+        broadcastToStation(stationId, heartbeat, true);
+    }
+
+    @Override
+    public void onParticipantsReaped(Integer stationId, ParticipantReapResult result) {
+        if (result.isClosed()) {
+            notifyStationClosed(stationId);
+            return;
+        }
+
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("type", "participants_left");
+        response.put("version", result.getRosterVersion());
+        response.set("userIds", objectMapper.valueToTree(result.getUserIds()));
+        response.put("action", "idle");
+        if (result.getNewHostId() != null) {
+            response.put("newHostId", result.getNewHostId());
+            if (result.getNewHost() != null) {
+                response.set("host", objectMapper.valueToTree(result.getNewHost()));
+            }
+        }
+        broadcastToStation(stationId, response);
+    }
+
+    private void broadcastToStation(Integer stationId, Object message) {
+        broadcastToStation(stationId, message, false);
+    }
+
+    private void broadcastToStation(Integer stationId, Object message, boolean droppable) {
+        clusterBus.publishToStation(ClusterBus.CHANNEL_STATION, stationId, message, droppable);
+    }
+
+    @Override
+    public String channel() {
+        return ClusterBus.CHANNEL_STATION;
+    }
+
+    @Override
+    public void onClusterMessage(ClusterMessage message) {
+        Integer stationId = message.getStationId();
+        OutboundFrame frame = new OutboundFrame(message.getPayload());
+        boolean local = clusterBus.isLocal(message);
+
+        if (message.getUserId() != null) {
+            Integer userId = message.getUserId().intValue();
+            transports.orderedStream().forEach(transport -> transport.disconnectUser(stationId, userId, frame, local));
+        } else if (TYPE_STATION_CLOSED.equals(typeOf(message.getPayload()))) {
+            transports.orderedStream().forEach(transport -> transport.closeStation(stationId, frame, local));
+        } else {
+            transports.orderedStream().forEach(transport -> transport.deliver(stationId, frame, message.isDroppable(), local));
+        }
+    }
+
+    private String typeOf(Object payload) {
+        if (payload instanceof JsonNode node) {
+            return node.path("type").asText(null);
+        }
+        if (payload instanceof Map<?, ?> map) {
+            Object type = map.get("type");
+            return type != null ? type.toString() : null;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,120 @@
+package com.plyst.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class StationExecutor {
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("station-", 0).factory());
+    private final Map<Integer, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    // Station whose mailbox the current thread is draining, so call() can tell when it would wait on itself.
+    private static final ThreadLocal<Integer> draining = new ThreadLocal<>();
+
+    public StationExecutor(MeterRegistry meterRegistry) {
+        Gauge.builder("station.mailbox.pending", this, StationExecutor::pendingTasks)
+                .register(meterRegistry);
+    }
+
+    public void execute(Integer stationId, Runnable task) {
+        // Offering under the map's key lock means a draining mailbox can never unlink itself with this task inside.
+        Mailbox mailbox = mailboxes.compute(stationId, (id, current) -> {
+            Mailbox target = current != null ? current : new Mailbox(id);
+            target.tasks.offer(task);
+            return target;
+        });
+        mailbox.schedule();
+    }
+
+    public <T> T call(Integer stationId, Supplier<T> task) {
+        Integer current = draining.get();
+        if (stationId.equals(current)) {
+            return task.get();
+        }
+        if (current != null) {
+            // Two mailboxes waiting on each other would both stall forever.
+            throw new IllegalStateException("Blocking call into station " + stationId + " from station " + current);
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        execute(stationId, () -> {
+            try {
+                result.complete(task.get());
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public int pendingTasks() {
+        return mailboxes.values().stream().mapToInt(mailbox -> mailbox.tasks.size()).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private final class Mailbox implements Runnable {
+        private final Integer stationId;
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        Mailbox(Integer stationId) {
+            this.stationId = stationId;
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            draining.set(stationId);
+            try {
+                Runnable task;
+                while ((task = tasks.poll()) != null) {
+                    try {
+                        task.run();
+                    } catch (Exception e) {
+                        log.error("Station task failed - stationId: {}", stationId, e);
+                    }
+                }
+            } finally {
+                draining.remove();
+                scheduled.set(false);
+                if (!tasks.isEmpty()) {
+                    schedule();
+                } else {
+                    mailboxes.computeIfPresent(stationId,
+                            (id, current) -> current == this && tasks.isEmpty() && !scheduled.get() ? null : current);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.plyst.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.plyst.config.ClusterProperties;
+import com.plyst.dto.ClusterDto.ClusterMessage;
+import com.plyst.dto.StationDto.LobbySnapshot;
+import com.plyst.dto.StationDto.StationListItemResponse;
+import com.plyst.dto.StationDto.UserInfo;
+import com.plyst.entity.Station;
+import com.plyst.entity.StationParticipant;
+import com.plyst.entity.User;
+import com.plyst.repository.StationParticipantRepository;
+import com.plyst.repository.StationRepository;
+import com.plyst.service.StationStateRegistry.StationState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StationLobbyIndex implements ClusterBus.ChannelListener {
+
+    public interface LobbyListener {
+        void onLobbyChange(ObjectNode change, boolean local);
+    }
+
+    private final StationRepository stationRepository;
+    private final StationParticipantRepository participantRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<LobbyListener> lobbyListeners;
+    private final ClusterBus clusterBus;
+    private final ClusterProperties clusterProperties;
+
+    private static final Comparator<StationListItemResponse> NEWEST_FIRST =
+            Comparator.comparing(StationListItemResponse::getCreatedAt).reversed();
+
+    private final Map<Integer, StationListItemResponse> entries = new ConcurrentHashMap<>();
+    private long version;
+    private volatile LobbySnapshot snapshot = LobbySnapshot.builder().version(0L).stations(List.of()).build();
+
+    @Override
+    public String channel() {
+        return ClusterBus.CHANNEL_LOBBY;
+    }
+
+    // Other nodes' lifecycle events are folded into this node's index and re-versioned locally.
+    @Override
+    public synchronized void onClusterMessage(ClusterMessage message) {
+        ObjectNode change = objectMapper.convertValue(message.getPayload(), ObjectNode.class);
+        if (clusterBus.isLocal(message)) {
+            notifyListeners(change, true);
+            return;
+        }
+
+        ObjectNode applied = "station_removed".equals(change.path("type").asText())
+                ? applyRemove(change.path("stationId").asInt())
+                : applyPut(objectMapper.convertValue(change.get("station"), StationListItemResponse.class));
+        if (applied != null) {
+            notifyListeners(applied, false);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<StationListItemResponse> loaded = transactionTemplate.execute(status -> {
+            List<Station> stations = stationRepository.findByStatusOrderByCreatedAtDesc("ACTIVE").stream()
+                    .filter(station -> !Boolean.TRUE.equals(station.getIsPrivate()))
+                    .toList();
+            if (stations.isEmpty()) {
+                return List.of();
+            }
+
+            Map<Integer, List<StationParticipant>> participants = participantRepository
+                    .findWithUserByStationIdIn(stations.stream().map(Station::getId).toList()).stream()
+                    .collect(Collectors.groupingBy(participant -> participant.getStation().getId()));
+
+            return stations.stream()
+                    .map(station -> {
+                        List<StationParticipant> members = participants.getOrDefault(station.getId(), List.of());
+                        UserInfo host = members.stream()
+                                .filter(participant -> "HOST".equals(participant.getRole()))
+                                .findFirst()
+                                .map(participant -> toUserInfo(participant.getUser()))
+                                .orElse(null);
+                        return toEntry(station, host, members.size());
+                    })
+                    .toList();
+        });
+
+        synchronized (this) {
+            loaded.forEach(entry -> entries.putIfAbsent(entry.getId(), entry));
+            rebuild();
+        }
+        log.info("Station lobby index loaded - stations: {}", entries.size());
+    }
+
+    public LobbySnapshot snapshot() {
+        return snapshot;
+    }
+
+    public List<StationListItemResponse> getStations() {
+        return snapshot.getStations();
+    }
+
+    public synchronized void upsert(Station station, StationState state) {
+        if (!"ACTIVE".equals(station.getStatus()) || Boolean.TRUE.equals(station.getIsPrivate())) {
+            remove(station.getId());
+            return;
+        }
+        put(toEntry(station, state.getHost(), state.getParticipantCount()));
+    }
+
+    public synchronized void updateRoster(Integer stationId, StationState state) {
+        StationListItemResponse current = entries.get(stationId);
+        if (current == null || state == null) {
+            return;
+        }
+
+        UserInfo host = state.getHost();
+        int participantCount = state.getParticipantCount();
+        if (Objects.equals(current.getHost(), host) && current.getParticipantCount() == participantCount) {
+            return;
+        }
+        put(current.toBuilder()
+                .host(host)
+                .hostNickname(host != null ? host.getNickname() : null)
+                .participantCount(participantCount)
+                .build());
+    }
+
+    public synchronized void updateTitle(Integer stationId, String title) {
+        StationListItemResponse current = entries.get(stationId);
+        if (current == null || Objects.equals(current.getTitle(), title)) {
+            return;
+        }
+        put(current.toBuilder().title(title).build());
+    }
+
+    public synchronized void remove(Integer stationId) {
+        ObjectNode change = applyRemove(stationId);
+        if (change != null) {
+            clusterBus.publish(ClusterBus.CHANNEL_LOBBY, change);
+        }
+    }
+
+    private void put(StationListItemResponse entry) {
+        clusterBus.publish(ClusterBus.CHANNEL_LOBBY, applyPut(entry));
+    }
+
+    private ObjectNode applyPut(StationListItemResponse entry) {
+        entries.put(entry.getId(), entry);
+        rebuild();
+
+        ObjectNode change = newChange("station_upserted");
+        change.set("station", objectMapper.valueToTree(entry));
+        return change;
+    }
+
+    private ObjectNode applyRemove(Integer stationId) {
+        if (entries.remove(stationId) == null) {
+            return null;
+        }
+        rebuild();
+
+        ObjectNode change = newChange("station_removed");
+        change.put("stationId", stationId);
+        return change;
+    }
+
+    private ObjectNode newChange(String type) {
+        ObjectNode change = objectMapper.createObjectNode();
+        change.put("type", type);
+        change.put("node", clusterProperties.getNodeId());
+        change.put("version", version);
+        return change;
+    }
+
+    // Reads hand out the prebuilt snapshot; only lifecycle writes pay for the sort.
+    private void rebuild() {
+        version++;
+        snapshot = LobbySnapshot.builder()
+                .node(clusterProperties.getNodeId())
+                .version(version)
+                .stations(entries.values().stream().sorted(NEWEST_FIRST).toList())
+                .build();
+    }
+
+    private void notifyListeners(ObjectNode change, boolean local) {
+        lobbyListeners.orderedStream().forEach(listener -> {
+            try {
+                listener.onLobbyChange(change, local);
+            } catch (Exception e) {
+                log.error("Failed to publish lobby change", e);
+            }
+        });
+    }
+
+    private StationListItemResponse toEntry(Station station, UserInfo host, int participantCount) {
+        return StationListItemResponse.builder()
+                .id(station.getId())
+                .title(station.getTitle())
+                .inviteCode(station.getInviteCode())
+                .hostNickname(host != null ? host.getNickname() : null)
+                .participantCount(participantCount)
+                .maxParticipants(station.getMaxParticipants())
+                .isLive(true)
+                .isPrivate(false)
+                .host(host)
+                .createdAt(station.getCreatedAt().toString())
+                .build();
+    }
+
+    private UserInfo toUserInfo(User user) {
+        return UserInfo.builder()
+                .id(user.getId())
+                .nickname(user.getNickname())
+                .avatar(user.getProfile() != null ? user.getProfile().getImageUrl() : null)
+                .build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.plyst.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class StationMediaState {
+
+    private final Map<Integer, String> videoIds = new ConcurrentHashMap<>();
+    private final Map<Integer, Integer> volumes = new ConcurrentHashMap<>();
+
+    public String getVideoId(Integer stationId) {
+        return videoIds.get(stationId);
+    }
+
+    public String setVideoId(Integer stationId, String videoId) {
+        return videoIds.put(stationId, videoId);
+    }
+
+    public Integer getVolume(Integer stationId) {
+        return volumes.get(stationId);
+    }
+
+    public void setVolume(Integer stationId, int volume) {
+        volumes.put(stationId, volume);
+    }
+
+    public void restore(Integer stationId, String videoId, Integer volume) {
+        if (videoId != null) {
+            videoIds.putIfAbsent(stationId, videoId);
+        }
+        if (volume != null) {
+            volumes.putIfAbsent(stationId, volume);
+        }
+    }
+
+    public Set<Integer> stationIds() {
+        Set<Integer> stationIds = new HashSet<>(videoIds.keySet());
+        stationIds.addAll(volumes.keySet());
+        return stationIds;
+    }
+
+    public void remove(Integer stationId) {
+        videoIds.remove(stationId);
+        volumes.remove(stationId);
+    }
+}
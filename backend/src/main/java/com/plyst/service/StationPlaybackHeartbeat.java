@@ -0,0 +1,58 @@
+package com.plyst.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.plyst.dto.StationDto.PlaybackInfo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StationPlaybackHeartbeat {
+
+    public interface HeartbeatListener {
+        void onPlaybackHeartbeat(Integer stationId, ObjectNode heartbeat);
+    }
+
+    private final StationPlaybackStore playbackStore;
+    private final StationStateRegistry stationStateRegistry;
+    private final StationMediaState mediaState;
+    private final StationClusterRouter clusterRouter;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<HeartbeatListener> heartbeatListeners;
+
+    @Scheduled(fixedRateString = "${station.playback.heartbeat-interval-ms:5000}")
+    public void beat() {
+        for (Integer stationId : playbackStore.getPlayingStationIds()) {
+            if (!stationStateRegistry.isLoaded(stationId) || !clusterRouter.isLocal(stationId)) {
+                continue;
+            }
+
+            PlaybackInfo playback = playbackStore.getPlaybackInfo(stationId);
+            if (playback == null) {
+                continue;
+            }
+
+            ObjectNode heartbeat = objectMapper.createObjectNode();
+            heartbeat.put("type", "playback_heartbeat");
+            heartbeat.set("payload", objectMapper.valueToTree(playback));
+            String videoId = mediaState.getVideoId(stationId);
+            if (videoId != null) {
+                heartbeat.put("videoId", videoId);
+            }
+            heartbeat.put("serverTime", playback.getServerTime());
+
+            heartbeatListeners.orderedStream().forEach(listener -> {
+                try {
+                    listener.onPlaybackHeartbeat(stationId, heartbeat);
+                } catch (Exception e) {
+                    log.error("Failed to publish playback heartbeat - stationId: {}", stationId, e);
+                }
+            });
+        }
+    }
+}
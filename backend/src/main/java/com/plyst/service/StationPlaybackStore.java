@@ -0,0 +1,340 @@
+package com.plyst.service;
+
+import com.plyst.dto.StationDto.PlaybackInfo;
+import com.plyst.dto.StationDto.PlaybackUpdateMessage;
+import com.plyst.entity.Station;
+import com.plyst.entity.StationPlayback;
+import com.plyst.entity.Track;
+import com.plyst.repository.StationPlaybackRepository;
+import com.plyst.repository.StationRepository;
+import com.plyst.repository.TrackRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@SuppressWarnings("null")
+public class StationPlaybackStore {
+
+    private final StationRepository stationRepository;
+    private final StationPlaybackRepository playbackRepository;
+    private final TrackRepository trackRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final PlaybackState EMPTY = PlaybackState.builder().build();
+    private static final long MAX_CAPTURE_SKEW_MS = 5000;
+    private static final int MAX_FLUSH_ATTEMPTS = 3;
+
+    @Value("${station.playback.seek-tolerance-ms:1500}")
+    private long seekToleranceMs;
+
+    private final Map<Integer, PlaybackState> playbackStates = new ConcurrentHashMap<>();
+    private final Set<Integer> dirtyStations = ConcurrentHashMap.newKeySet();
+    private final Map<Integer, Integer> flushFailures = new ConcurrentHashMap<>();
+
+    // Returns true when the update changes what listeners should hear (track, play state, rate or a seek).
+    public boolean update(Integer stationId, PlaybackUpdateMessage update) {
+        PlaybackState loaded = load(stationId);
+        boolean[] significant = {false};
+        playbackStates.compute(stationId, (id, current) -> {
+            PlaybackState base = current != null ? current : loaded;
+            PlaybackState next = merge(base, update);
+            significant[0] = isSignificant(base, next, update.getPositionMs() != null);
+            return next;
+        });
+        dirtyStations.add(stationId);
+        return significant[0];
+    }
+
+    public List<Integer> getPlayingStationIds() {
+        return playbackStates.entrySet().stream()
+                .filter(entry -> entry.getValue().hasTrack() && Boolean.TRUE.equals(entry.getValue().getIsPlaying()))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    public PlaybackInfo getPlaybackInfo(Integer stationId) {
+        PlaybackState state = load(stationId);
+        return state.hasTrack() ? state.toPlaybackInfo(System.currentTimeMillis()) : null;
+    }
+
+    public void remove(Integer stationId) {
+        playbackStates.remove(stationId);
+        dirtyStations.remove(stationId);
+        flushFailures.remove(stationId);
+    }
+
+    @Scheduled(fixedDelayString = "${station.playback.flush-interval-ms:2000}")
+    public void flush() {
+        if (dirtyStations.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, PlaybackState> pending = new HashMap<>();
+        for (Integer stationId : List.copyOf(dirtyStations)) {
+            dirtyStations.remove(stationId);
+            PlaybackState state = playbackStates.get(stationId);
+            if (state != null && state.hasTrack()) {
+                pending.put(stationId, state);
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        try {
+            write(pending);
+            pending.keySet().forEach(flushFailures::remove);
+            log.debug("Playback flushed - stations: {}", pending.size());
+        } catch (Exception e) {
+            // One bad station must not hold back the rest, so the batch is retried station by station.
+            log.warn("Failed to flush station playback batch, retrying per station - stations: {}", pending.keySet(), e);
+            pending.forEach((stationId, state) -> {
+                try {
+                    write(Map.of(stationId, state));
+                    flushFailures.remove(stationId);
+                } catch (Exception stationError) {
+                    retryLater(stationId, stationError);
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // Track ids resolved during the write are cached only once the transaction has committed.
+    private void write(Map<Integer, PlaybackState> pending) {
+        Map<Integer, Integer> resolved = transactionTemplate.execute(status -> writePlaybacks(pending));
+        resolved.forEach((stationId, trackId) -> playbackStates.computeIfPresent(stationId, (id, current) ->
+                current.isSameTrack(pending.get(stationId))
+                        ? current.toBuilder().trackId(trackId).trackResolved(true).build()
+                        : current));
+    }
+
+    private void retryLater(Integer stationId, Exception error) {
+        int attempts = flushFailures.merge(stationId, 1, Integer::sum);
+        if (attempts >= MAX_FLUSH_ATTEMPTS) {
+            flushFailures.remove(stationId);
+            log.error("Dropping station playback write after {} attempts - stationId: {}", attempts, stationId, error);
+            return;
+        }
+        log.error("Failed to flush station playback - stationId: {}, attempt: {}", stationId, attempts, error);
+        dirtyStations.add(stationId);
+    }
+
+    private Map<Integer, Integer> writePlaybacks(Map<Integer, PlaybackState> pending) {
+        Map<Integer, Station> stations = stationRepository.findAllById(pending.keySet()).stream()
+                .collect(Collectors.toMap(Station::getId, Function.identity()));
+        Map<Integer, StationPlayback> playbacks = playbackRepository.findAllById(stations.keySet()).stream()
+                .collect(Collectors.toMap(StationPlayback::getStationId, Function.identity()));
+
+        long now = System.currentTimeMillis();
+        List<StationPlayback> toSave = new ArrayList<>();
+        Map<Integer, Integer> resolved = new HashMap<>();
+        stations.forEach((stationId, station) -> {
+            PlaybackState state = pending.get(stationId);
+            Track track = resolveTrack(state);
+            if (track == null) {
+                return;
+            }
+            if (!state.isTrackResolved()) {
+                resolved.put(stationId, track.getId());
+            }
+
+            StationPlayback playback = playbacks.get(stationId);
+            if (playback == null) {
+                playback = StationPlayback.builder()
+                        .station(station)
+                        .build();
+            }
+            playback.setTrack(track);
+            playback.setPositionMs((int) state.positionAt(now));
+            playback.setIsPlaying(state.getIsPlaying());
+            toSave.add(playback);
+        });
+
+        playbackRepository.saveAll(toSave);
+        return resolved;
+    }
+
+    private Track resolveTrack(PlaybackState state) {
+        if (state.isTrackResolved()) {
+            return trackRepository.getReferenceById(state.getTrackId());
+        }
+
+        Track track = null;
+        if (state.getTrackId() != null) {
+            track = trackRepository.findById(state.getTrackId()).orElse(null);
+        }
+
+        if (track == null && state.getTitle() != null && state.getArtist() != null) {
+            track = trackRepository.findByTitleAndArtist(state.getTitle(), state.getArtist())
+                    .orElseGet(() -> trackRepository.save(Track.builder()
+                            .title(state.getTitle())
+                            .artist(state.getArtist())
+                            .albumImage(state.getAlbumImage())
+                            .durationSec(state.getDurationSec())
+                            .build()));
+        }
+        return track;
+    }
+
+    private PlaybackState load(Integer stationId) {
+        PlaybackState state = playbackStates.get(stationId);
+        if (state != null) {
+            return state;
+        }
+
+        // A miss is not cached: ids that never get a playback (or do not exist) must not accumulate here.
+        PlaybackState loaded = playbackRepository.findWithTrackByStationId(stationId)
+                .map(PlaybackState::from)
+                .orElse(null);
+        if (loaded == null) {
+            return EMPTY;
+        }
+        PlaybackState existing = playbackStates.putIfAbsent(stationId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private PlaybackState merge(PlaybackState current, PlaybackUpdateMessage update) {
+        long now = System.currentTimeMillis();
+        PlaybackState.PlaybackStateBuilder builder = current.toBuilder()
+                .positionMs(current.positionAt(now))
+                .anchorTime(now);
+
+        boolean trackChanged = update.getTrackId() != null && !update.getTrackId().equals(current.getTrackId());
+        boolean metadataChanged = update.getTitle() != null && update.getArtist() != null
+                && !(update.getTitle().equals(current.getTitle()) && update.getArtist().equals(current.getArtist()));
+
+        if (trackChanged || metadataChanged) {
+            builder.trackId(update.getTrackId())
+                    .trackResolved(false)
+                    .title(update.getTitle() != null ? update.getTitle() : current.getTitle())
+                    .artist(update.getArtist() != null ? update.getArtist() : current.getArtist())
+                    .albumImage(update.getAlbumImage())
+                    .durationSec(update.getDurationSec())
+                    .positionMs(0L);
+        }
+        if (update.getPositionMs() != null) {
+            builder.positionMs(update.getPositionMs())
+                    .anchorTime(anchorTime(update.getCapturedAt(), now));
+        }
+        if (update.getIsPlaying() != null) {
+            builder.isPlaying(update.getIsPlaying());
+        }
+        if (update.getPlaybackRate() != null && update.getPlaybackRate() > 0) {
+            builder.rate(update.getPlaybackRate());
+        }
+        return builder.updatedAt(LocalDateTime.now()).build();
+    }
+
+    private boolean isSignificant(PlaybackState current, PlaybackState next, boolean positionReported) {
+        if (!current.isSameTrack(next)
+                || !Objects.equals(current.getIsPlaying(), next.getIsPlaying())
+                || current.getRate() != next.getRate()) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        return positionReported && Math.abs(next.positionAt(now) - current.positionAt(now)) > seekToleranceMs;
+    }
+
+    private long anchorTime(Long capturedAt, long now) {
+        if (capturedAt != null && capturedAt <= now && now - capturedAt <= MAX_CAPTURE_SKEW_MS) {
+            return capturedAt;
+        }
+        return now;
+    }
+
+    @Getter
+    @Builder(toBuilder = true)
+    static class PlaybackState {
+        private final Integer trackId;
+        private final boolean trackResolved;
+        private final String title;
+        private final String artist;
+        private final String albumImage;
+        private final Integer durationSec;
+        private final long positionMs;
+        private final long anchorTime;
+        @Builder.Default
+        private final double rate = 1.0;
+        @Builder.Default
+        private final Boolean isPlaying = false;
+        private final LocalDateTime updatedAt;
+
+        static PlaybackState from(StationPlayback playback) {
+            Track track = playback.getTrack();
+            return PlaybackState.builder()
+                    .trackId(track.getId())
+                    .trackResolved(true)
+                    .title(track.getTitle())
+                    .artist(track.getArtist())
+                    .albumImage(track.getAlbumImage())
+                    .durationSec(track.getDurationSec())
+                    .positionMs(playback.getPositionMs())
+                    .anchorTime(playback.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+                    .isPlaying(playback.getIsPlaying())
+                    .updatedAt(playback.getUpdatedAt())
+                    .build();
+        }
+
+        long positionAt(long now) {
+            long position = positionMs;
+            if (Boolean.TRUE.equals(isPlaying) && anchorTime > 0) {
+                position += (long) ((now - anchorTime) * rate);
+            }
+            if (durationSec != null && durationSec > 0) {
+                position = Math.min(position, durationSec * 1000L);
+            }
+            return Math.max(0, position);
+        }
+
+        boolean hasTrack() {
+            return trackId != null || (title != null && artist != null);
+        }
+
+        boolean isSameTrack(PlaybackState other) {
+            return Objects.equals(trackId, other.trackId)
+                    && Objects.equals(title, other.title)
+                    && Objects.equals(artist, other.artist);
+        }
+
+        PlaybackInfo toPlaybackInfo(long now) {
+            return PlaybackInfo.builder()
+                    .trackId(trackId)
+                    .title(title)
+                    .artist(artist)
+                    .albumImage(albumImage)
+                    .durationSec(durationSec)
+                    .positionMs((int) positionAt(now))
+                    .isPlaying(isPlaying)
+                    .playbackRate(rate)
+                    .serverTime(now)
+                    .updatedAt(updatedAt != null ? updatedAt.toString() : null)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.plyst.service;
+
+import com.plyst.dto.StationDto.QueueItem;
+import com.plyst.dto.StationDto.QueueOperation;
+import com.plyst.dto.StationDto.QueueSnapshot;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class StationQueueStore {
+
+    public static final String OP_INSERT = "insert";
+    public static final String OP_REMOVE = "remove";
+    public static final String OP_MOVE = "move";
+    public static final String OP_REPLACE = "replace";
+
+    private static final int MAX_QUEUE_SIZE = 500;
+    private static final int OP_LOG_SIZE = 64;
+
+    private final Map<Integer, StationQueue> queues = new ConcurrentHashMap<>();
+
+    public QueueSnapshot snapshot(Integer stationId) {
+        StationQueue queue = queues.get(stationId);
+        return queue != null ? queue.snapshot() : QueueSnapshot.builder().seq(0L).items(List.of()).build();
+    }
+
+    public QueueOperation insert(Integer stationId, QueueItem item, Integer index, Integer addedBy) {
+        if (!isPlayable(item)) {
+            return null;
+        }
+        return queue(stationId).insert(normalize(item, addedBy), index);
+    }
+
+    public QueueOperation remove(Integer stationId, String itemId) {
+        StationQueue queue = queues.get(stationId);
+        return queue != null && itemId != null ? queue.remove(itemId) : null;
+    }
+
+    public QueueOperation move(Integer stationId, String itemId, Integer toIndex) {
+        StationQueue queue = queues.get(stationId);
+        return queue != null && itemId != null && toIndex != null ? queue.move(itemId, toIndex) : null;
+    }
+
+    public QueueOperation replace(Integer stationId, List<QueueItem> items, Integer addedBy) {
+        return queue(stationId).replace(items != null ? items : List.of(), addedBy);
+    }
+
+    public List<QueueOperation> operationsSince(Integer stationId, long seq) {
+        StationQueue queue = queues.get(stationId);
+        return queue != null ? queue.operationsSince(seq) : List.of();
+    }
+
+    public void restore(Integer stationId, long seq, List<QueueItem> items) {
+        queues.computeIfAbsent(stationId, id -> {
+            StationQueue queue = new StationQueue();
+            queue.load(seq, items);
+            return queue;
+        });
+    }
+
+    public long seq(Integer stationId) {
+        StationQueue queue = queues.get(stationId);
+        return queue != null ? queue.seq() : 0;
+    }
+
+    public Set<Integer> stationIds() {
+        return Set.copyOf(queues.keySet());
+    }
+
+    public void clear(Integer stationId) {
+        queues.remove(stationId);
+    }
+
+    private StationQueue queue(Integer stationId) {
+        return queues.computeIfAbsent(stationId, id -> new StationQueue());
+    }
+
+    private static boolean isPlayable(QueueItem item) {
+        return item != null && (item.getTitle() != null || item.getVideoId() != null);
+    }
+
+    private static QueueItem normalize(QueueItem item, Integer addedBy) {
+        return item.toBuilder()
+                .id(item.getId() != null ? item.getId() : UUID.randomUUID().toString())
+                .addedBy(addedBy)
+                .build();
+    }
+
+    private static final class StationQueue {
+        private final List<QueueItem> items = new ArrayList<>();
+        private final Map<String, QueueItem> itemsById = new HashMap<>();
+        private final Deque<QueueOperation> log = new ArrayDeque<>();
+        private long seq;
+
+        synchronized QueueSnapshot snapshot() {
+            return QueueSnapshot.builder()
+                    .seq(seq)
+                    .items(List.copyOf(items))
+                    .build();
+        }
+
+        synchronized QueueOperation insert(QueueItem item, Integer index) {
+            if (itemsById.containsKey(item.getId()) || items.size() >= MAX_QUEUE_SIZE) {
+                return null;
+            }
+            int position = index != null ? clamp(index, items.size()) : items.size();
+            items.add(position, item);
+            itemsById.put(item.getId(), item);
+            return record(QueueOperation.builder().op(OP_INSERT).item(item).index(position));
+        }
+
+        synchronized QueueOperation remove(String itemId) {
+            QueueItem item = itemsById.remove(itemId);
+            if (item == null) {
+                return null;
+            }
+            items.remove(item);
+            return record(QueueOperation.builder().op(OP_REMOVE).itemId(itemId));
+        }
+
+        synchronized QueueOperation move(String itemId, int toIndex) {
+            QueueItem item = itemsById.get(itemId);
+            if (item == null) {
+                return null;
+            }
+            int from = items.indexOf(item);
+            int to = clamp(toIndex, items.size() - 1);
+            if (from == to) {
+                return null;
+            }
+            items.add(to, items.remove(from));
+            return record(QueueOperation.builder().op(OP_MOVE).itemId(itemId).index(to));
+        }
+
+        synchronized QueueOperation replace(List<QueueItem> replacement, Integer addedBy) {
+            // Items already queued keep their original requester; anything new is attributed to the sender.
+            Map<String, QueueItem> previous = new HashMap<>(itemsById);
+            items.clear();
+            itemsById.clear();
+            for (QueueItem item : replacement) {
+                if (!isPlayable(item) || (item.getId() != null && itemsById.containsKey(item.getId()))) {
+                    continue;
+                }
+                if (items.size() >= MAX_QUEUE_SIZE) {
+                    break;
+                }
+                QueueItem existing = item.getId() != null ? previous.get(item.getId()) : null;
+                QueueItem normalized = normalize(item, existing != null ? existing.getAddedBy() : addedBy);
+                items.add(normalized);
+                itemsById.put(normalized.getId(), normalized);
+            }
+            return record(QueueOperation.builder().op(OP_REPLACE).items(List.copyOf(items)));
+        }
+
+        synchronized long seq() {
+            return seq;
+        }
+
+        synchronized void load(long restoredSeq, List<QueueItem> restoredItems) {
+            for (QueueItem item : restoredItems) {
+                if (item != null && item.getId() != null && itemsById.putIfAbsent(item.getId(), item) == null) {
+                    items.add(item);
+                }
+            }
+            seq = restoredSeq;
+        }
+
+        synchronized List<QueueOperation> operationsSince(long since) {
+            if (since >= seq) {
+                return List.of();
+            }
+            QueueOperation oldest = log.peekFirst();
+            if (oldest == null || oldest.getSeq() > since + 1) {
+                return null;
+            }
+            return log.stream().filter(op -> op.getSeq() > since).toList();
+        }
+
+        private QueueOperation record(QueueOperation.QueueOperationBuilder builder) {
+            QueueOperation operation = builder.seq(++seq).build();
+            log.addLast(operation);
+            if (log.size() > OP_LOG_SIZE) {
+                log.removeFirst();
+            }
+            return operation;
+        }
+
+        private int clamp(int index, int max) {
+            return Math.max(0, Math.min(index, max));
+        }
+    }
+}
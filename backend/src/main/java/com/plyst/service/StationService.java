@@ -3,15 +3,21 @@ package com.plyst.service;
 import com.plyst.dto.StationDto.*;
 import com.plyst.entity.*;
 import com.plyst.repository.*;
+import com.plyst.service.StationStateRegistry.StationState;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,8 +32,12 @@ public class StationService {
     private final StationPlaybackRepository playbackRepository;
     private final StationBanRepository banRepository;
     private final UserRepository userRepository;
-    private final TrackRepository trackRepository;
     private final BlockService blockService;
+    private final StationStateRegistry stationStateRegistry;
+    private final StationPlaybackStore stationPlaybackStore;
+    private final StationSnapshotService stationSnapshotService;
+    private final StationLobbyIndex stationLobbyIndex;
+    private final StationClusterRouter stationClusterRouter;
 
     private static final String INVITE_CODE_CHARS = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789";
     private static final int INVITE_CODE_LENGTH = 6;
@@ -61,20 +71,27 @@ public class StationService {
 
         participantRepository.save(hostParticipant);
 
+        StationState state = new StationState(station.getId(), maxParticipants);
+        state.putParticipant(toParticipantInfo(hostParticipant));
+        afterCommit(() -> {
+            stationStateRegistry.register(state);
+            stationLobbyIndex.upsert(station, state);
+        });
+
         return CreateStationResponse.builder()
                 .id(station.getId())
                 .inviteCode(station.getInviteCode())
                 .build();
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<StationListItemResponse> getActiveStations() {
-        List<Station> stations = stationRepository.findByStatusOrderByCreatedAtDesc("ACTIVE");
+        return stationLobbyIndex.getStations();
+    }
 
-        return stations.stream()
-                .filter(station -> !Boolean.TRUE.equals(station.getIsPrivate()))
-                .map(this::toStationListItemResponse)
-                .toList();
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public LobbySnapshot getLobbySnapshot() {
+        return stationLobbyIndex.snapshot();
     }
 
     @Transactional(readOnly = true)
@@ -93,39 +110,62 @@ public class StationService {
             throw new RuntimeException("Station is not active");
         }
 
-        long currentParticipants = participantRepository.countByStationId(station.getId());
-        if (currentParticipants >= station.getMaxParticipants()) {
-            throw new RuntimeException("Station is full");
-        }
-
-        if (participantRepository.existsByStationIdAndUserId(station.getId(), userId)) {
-            return toStationDetailResponse(station);
-        }
-
-        if (banRepository.existsByStationIdAndUserId(station.getId(), userId)) {
-            throw new RuntimeException("You are banned from this station");
-        }
-
-        StationParticipant hostParticipant = participantRepository.findByStationIdAndRole(station.getId(), "HOST")
-                .orElse(null);
-        if (hostParticipant != null && blockService.isBlocked(hostParticipant.getUser().getId(), userId)) {
-            throw new RuntimeException("You cannot join this station");
+        StationState state = getStationState(station.getId());
+        switch (state.reserve(userId)) {
+            case MEMBER -> {
+                return toStationDetailResponse(station);
+            }
+            case BANNED -> throw new RuntimeException("You are banned from this station");
+            case FULL -> throw new RuntimeException("Station is full");
+            case IN_PROGRESS -> throw new RuntimeException("Join already in progress");
+            case RESERVED -> { }
         }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        ParticipantInfo joined;
+        try {
+            if (blockService.isBlocked(state.getHostUserId(), userId)) {
+                throw new RuntimeException("You cannot join this station");
+            }
+            // A single node sees every join, so its reservation is authoritative. With several nodes a REST join can
+            // land on any of them; locking the one station row serializes it against joins admitted elsewhere.
+            if (stationClusterRouter.isClustered()) {
+                stationRepository.findByIdForUpdate(station.getId());
+                if (participantRepository.countByStationId(station.getId()) >= station.getMaxParticipants()) {
+                    throw new RuntimeException("Station is full");
+                }
+            }
 
-        StationParticipant participant = StationParticipant.builder()
-                .station(station)
-                .user(user)
-                .role("MEMBER")
-                .joinedAt(LocalDateTime.now())
-                .lastActiveAt(LocalDateTime.now())
-                .build();
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new RuntimeException("User not found"));
 
-        participantRepository.save(participant);
+            StationParticipant participant = StationParticipant.builder()
+                    .station(station)
+                    .user(user)
+                    .role("MEMBER")
+                    .joinedAt(LocalDateTime.now())
+                    .lastActiveAt(LocalDateTime.now())
+                    .build();
 
-        return toStationDetailResponse(station);
+            participantRepository.saveAndFlush(participant);
+            joined = toParticipantInfo(participant);
+        } catch (RuntimeException e) {
+            state.release(userId);
+            throw e;
+        }
+        // The slot stays reserved until the row is durable, and is handed back if the transaction rolls back.
+        afterCompletion(() -> {
+            state.commit(joined);
+            stationStateRegistry.changed(state);
+            stationLobbyIndex.updateRoster(station.getId(), state);
+        }, () -> state.release(userId));
+
+        StationDetailResponse response = toStationDetailResponse(station);
+        List<ParticipantInfo> participants = new ArrayList<>(response.getParticipants());
+        if (!state.isParticipant(userId)) {
+            participants.add(joined);
+        }
+        response.setParticipants(participants);
+        return response;
     }
 
     public Integer leaveStation(Integer stationId, Integer userId) {
@@ -154,10 +194,25 @@ public class StationService {
                 newHost.setRole("HOST");
                 participantRepository.save(newHost);
                 participantRepository.deleteByStationIdAndUserId(stationId, userId);
-                return newHost.getUser().getId();
+
+                StationState state = getStationState(stationId);
+                Integer newHostId = newHost.getUser().getId();
+                afterCommit(() -> {
+                    state.changeHost(newHostId);
+                    state.removeParticipant(userId);
+                    stationStateRegistry.changed(state);
+                    stationLobbyIndex.updateRoster(stationId, state);
+                });
+                return newHostId;
             }
         } else {
             participantRepository.deleteByStationIdAndUserId(stationId, userId);
+            StationState state = getStationState(stationId);
+            afterCommit(() -> {
+                state.removeParticipant(userId);
+                stationStateRegistry.changed(state);
+                stationLobbyIndex.updateRoster(stationId, state);
+            });
             return null;
         }
     }
@@ -180,6 +235,12 @@ public class StationService {
         newHost.setRole("HOST");
         participantRepository.save(currentHost);
         participantRepository.save(newHost);
+        StationState state = getStationState(stationId);
+        afterCommit(() -> {
+            state.changeHost(newHostId);
+            stationStateRegistry.changed(state);
+            stationLobbyIndex.updateRoster(stationId, state);
+        });
 
         return newHostId;
     }
@@ -211,6 +272,14 @@ public class StationService {
         }
 
         participantRepository.deleteByStationIdAndUserId(stationId, targetUserId);
+
+        StationState state = getStationState(stationId);
+        afterCommit(() -> {
+            state.ban(targetUserId);
+            state.removeParticipant(targetUserId);
+            stationStateRegistry.changed(state);
+            stationLobbyIndex.updateRoster(stationId, state);
+        });
     }
 
     public void unbanUser(Integer stationId, Integer hostUserId, Integer targetUserId) {
@@ -225,6 +294,11 @@ public class StationService {
         }
 
         banRepository.deleteByStationIdAndUserId(stationId, targetUserId);
+        StationState state = getStationState(stationId);
+        afterCommit(() -> {
+            state.unban(targetUserId);
+            stationStateRegistry.changed(state);
+        });
     }
 
     public List<BannedUserInfo> getBannedUsers(Integer stationId) {
@@ -260,6 +334,7 @@ public class StationService {
 
         station.setTitle(newTitle);
         stationRepository.save(station);
+        afterCommit(() -> stationLobbyIndex.updateTitle(stationId, newTitle));
         return newTitle;
     }
 
@@ -267,73 +342,147 @@ public class StationService {
         playbackRepository.deleteByStationId(stationId);
         participantRepository.deleteByStationId(stationId);
         banRepository.deleteByStationId(stationId);
+        stationSnapshotService.discard(stationId);
         stationRepository.deleteById(stationId);
+        afterCommit(() -> {
+            stationStateRegistry.remove(stationId);
+            stationPlaybackStore.remove(stationId);
+            stationSnapshotService.forget(stationId);
+            stationLobbyIndex.remove(stationId);
+        });
     }
 
-    public void updatePlayback(Integer stationId, PlaybackUpdateMessage playbackUpdate) {
-        Station station = stationRepository.findById(stationId)
-                .orElseThrow(() -> new RuntimeException("Station not found"));
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public boolean updatePlayback(Integer stationId, PlaybackUpdateMessage playbackUpdate) {
+        if (getStationState(stationId) == null) {
+            throw new RuntimeException("Station not found");
+        }
 
-        StationPlayback playback = playbackRepository.findByStationId(stationId)
-                .orElse(null);
+        return stationPlaybackStore.update(stationId, playbackUpdate);
+    }
 
-        Track track = null;
-        if (playbackUpdate.getTrackId() != null) {
-            track = trackRepository.findById(playbackUpdate.getTrackId()).orElse(null);
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public PlaybackInfo getPlayback(Integer stationId) {
+        return stationPlaybackStore.getPlaybackInfo(stationId);
+    }
+
+    public ParticipantReapResult reapIdleParticipants(Integer stationId, Collection<Integer> userIds) {
+        StationState state = getStationState(stationId);
+        if (state == null) {
+            return null;
         }
 
-        if (track == null && playbackUpdate.getTitle() != null && playbackUpdate.getArtist() != null) {
-            track = trackRepository.findByTitleAndArtist(playbackUpdate.getTitle(), playbackUpdate.getArtist())
-                    .orElseGet(() -> trackRepository.save(Track.builder()
-                            .title(playbackUpdate.getTitle())
-                            .artist(playbackUpdate.getArtist())
-                            .albumImage(playbackUpdate.getAlbumImage())
-                            .durationSec(playbackUpdate.getDurationSec())
-                            .build()));
+        List<Integer> idleUserIds = userIds.stream()
+                .filter(state::isParticipant)
+                .toList();
+        if (idleUserIds.isEmpty()) {
+            return null;
         }
 
-        if (playback == null && track != null) {
-            playback = StationPlayback.builder()
-                    .station(station)
-                    .track(track)
-                    .positionMs(playbackUpdate.getPositionMs() != null ? playbackUpdate.getPositionMs() : 0)
-                    .isPlaying(playbackUpdate.getIsPlaying() != null ? playbackUpdate.getIsPlaying() : false)
+        List<ParticipantInfo> remaining = state.getParticipantList().stream()
+                .filter(participant -> !idleUserIds.contains(participant.getId()))
+                .toList();
+        if (remaining.isEmpty()) {
+            closeStation(stationId);
+            return ParticipantReapResult.builder()
+                    .userIds(idleUserIds)
+                    .closed(true)
                     .build();
-        } else if (playback != null) {
-            if (track != null) {
-                playback.setTrack(track);
-            }
-            if (playbackUpdate.getPositionMs() != null) {
-                playback.setPositionMs(playbackUpdate.getPositionMs());
-            }
-            if (playbackUpdate.getIsPlaying() != null) {
-                playback.setIsPlaying(playbackUpdate.getIsPlaying());
-            }
         }
 
-        if (playback != null) {
-            playbackRepository.save(playback);
+        participantRepository.deleteByStationIdAndUserIdIn(stationId, idleUserIds);
+
+        Integer newHostId = null;
+        if (idleUserIds.contains(state.getHostUserId())) {
+            newHostId = remaining.get(0).getId();
+            participantRepository.updateRole(stationId, newHostId, "HOST");
         }
+        ParticipantReapResult result = ParticipantReapResult.builder()
+                .userIds(idleUserIds)
+                .newHostId(newHostId)
+                .build();
+        Integer promotedHostId = newHostId;
+        afterCommit(() -> {
+            // One roster version step for the whole sweep so clients apply it as a single delta.
+            state.removeParticipants(idleUserIds, promotedHostId);
+            stationStateRegistry.changed(state);
+            stationLobbyIndex.updateRoster(stationId, state);
+            result.setRosterVersion(state.getRosterVersion());
+            result.setNewHost(promotedHostId != null ? state.getHost() : null);
+        });
+        return result;
     }
 
-    public void updateParticipantActivity(Integer stationId, Integer userId) {
-        participantRepository.findByStationIdAndUserId(stationId, userId)
-                .ifPresent(participant -> {
-                    participant.setLastActiveAt(LocalDateTime.now());
-                    participantRepository.save(participant);
-                });
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<ParticipantInfo> getParticipants(Integer stationId) {
+        StationState state = getStationState(stationId);
+        return state != null ? state.getParticipantList() : List.of();
     }
 
-    public List<ParticipantInfo> getParticipants(Integer stationId) {
-        return participantRepository.findByStationId(stationId).stream()
-                .map(this::toParticipantInfo)
-                .toList();
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ParticipantInfo getParticipant(Integer stationId, Integer userId) {
+        StationState state = getStationState(stationId);
+        return state != null ? state.getParticipant(userId) : null;
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public RosterSnapshot getRoster(Integer stationId) {
+        StationState state = getStationState(stationId);
+        return state != null ? state.snapshot() : null;
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public long getRosterVersion(Integer stationId) {
+        StationState state = getStationState(stationId);
+        return state != null ? state.getRosterVersion() : 0L;
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
     public boolean isHost(Integer stationId, Integer userId) {
-        return participantRepository.findByStationIdAndUserId(stationId, userId)
-                .map(p -> "HOST".equals(p.getRole()))
-                .orElse(false);
+        StationState state = getStationState(stationId);
+        return state != null && state.isHost(userId);
+    }
+
+    private void afterCommit(Runnable action) {
+        afterCompletion(action, null);
+    }
+
+    // In-memory state follows the database: changes apply once the transaction commits, never on rollback.
+    private void afterCompletion(Runnable onCommit, Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                onCommit.run();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED && onRollback != null) {
+                    onRollback.run();
+                }
+            }
+        });
+    }
+
+    private StationState getStationState(Integer stationId) {
+        return stationStateRegistry.getOrLoad(stationId, this::loadStationState);
+    }
+
+    private StationState loadStationState(Integer stationId) {
+        Station station = stationRepository.findById(stationId).orElse(null);
+        if (station == null) {
+            return null;
+        }
+
+        StationState state = new StationState(stationId, station.getMaxParticipants());
+        participantRepository.findWithUserByStationId(stationId)
+                .forEach(participant -> state.putParticipant(toParticipantInfo(participant)));
+        banRepository.findUserIdsByStationId(stationId).forEach(state::ban);
+        return state;
     }
 
     private String generateUniqueInviteCode() {
@@ -352,63 +501,14 @@ public class StationService {
         return sb.toString();
     }
 
-    private StationListItemResponse toStationListItemResponse(Station station) {
-        StationParticipant hostParticipant = participantRepository.findByStationIdAndRole(station.getId(), "HOST")
-                .orElse(null);
-
-        UserInfo hostInfo = null;
-        String hostNickname = null;
-        if (hostParticipant != null) {
-            User host = hostParticipant.getUser();
-            hostNickname = host.getNickname();
-            hostInfo = UserInfo.builder()
-                    .id(host.getId())
-                    .nickname(host.getNickname())
-                    .avatar(host.getProfile() != null ? host.getProfile().getImageUrl() : null)
-                    .build();
-        }
-
-        long participantCount = participantRepository.countByStationId(station.getId());
-
-        return StationListItemResponse.builder()
-                .id(station.getId())
-                .title(station.getTitle())
-                .inviteCode(station.getInviteCode())
-                .hostNickname(hostNickname)
-                .participantCount((int) participantCount)
-                .maxParticipants(station.getMaxParticipants())
-                .isLive("ACTIVE".equals(station.getStatus()))
-                .isPrivate(Boolean.TRUE.equals(station.getIsPrivate()))
-                .host(hostInfo)
-                .createdAt(station.getCreatedAt().toString())
-                .build();
-    }
-
     private StationDetailResponse toStationDetailResponse(Station station) {
-        StationParticipant hostParticipant = participantRepository.findByStationIdAndRole(station.getId(), "HOST")
-                .orElse(null);
-
-        UserInfo hostInfo = null;
-        if (hostParticipant != null) {
-            User host = hostParticipant.getUser();
-            hostInfo = UserInfo.builder()
-                    .id(host.getId())
-                    .nickname(host.getNickname())
-                    .avatar(host.getProfile() != null ? host.getProfile().getImageUrl() : null)
-                    .build();
-        }
-
-        List<ParticipantInfo> participants = participantRepository.findByStationId(station.getId()).stream()
-                .map(this::toParticipantInfo)
-                .toList();
+        RosterSnapshot roster = getStationState(station.getId()).snapshot();
 
         List<BannedUserInfo> bannedUsers = banRepository.findByStationId(station.getId()).stream()
                 .map(this::toBannedUserInfo)
                 .toList();
 
-        PlaybackInfo playbackInfo = playbackRepository.findByStationId(station.getId())
-                .map(this::toPlaybackInfo)
-                .orElse(null);
+        PlaybackInfo playbackInfo = stationPlaybackStore.getPlaybackInfo(station.getId());
 
         return StationDetailResponse.builder()
                 .id(station.getId())
@@ -416,10 +516,11 @@ public class StationService {
                 .inviteCode(station.getInviteCode())
                 .maxParticipants(station.getMaxParticipants())
                 .status(station.getStatus())
-                .host(hostInfo)
-                .participants(participants)
+                .host(roster.getHost())
+                .participants(roster.getParticipants())
                 .bannedUsers(bannedUsers)
                 .playback(playbackInfo)
+                .rosterVersion(roster.getVersion())
                 .createdAt(station.getCreatedAt().toString())
                 .build();
     }
@@ -435,20 +536,6 @@ public class StationService {
                 .build();
     }
 
-    private PlaybackInfo toPlaybackInfo(StationPlayback playback) {
-        Track track = playback.getTrack();
-        return PlaybackInfo.builder()
-                .trackId(track.getId())
-                .title(track.getTitle())
-                .artist(track.getArtist())
-                .albumImage(track.getAlbumImage())
-                .durationSec(track.getDurationSec())
-                .positionMs(playback.getPositionMs())
-                .isPlaying(playback.getIsPlaying())
-                .updatedAt(playback.getUpdatedAt().toString())
-                .build();
-    }
-
     private BannedUserInfo toBannedUserInfo(StationBan ban) {
         User user = ban.getUser();
         return BannedUserInfo.builder()
@@ -0,0 +1,154 @@
+package com.plyst.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.plyst.dto.StationDto.QueueItem;
+import com.plyst.dto.StationDto.QueueSnapshot;
+import com.plyst.entity.StationSnapshot;
+import com.plyst.repository.StationSnapshotRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@SuppressWarnings("null")
+public class StationSnapshotService {
+
+    private final StationSnapshotRepository snapshotRepository;
+    private final StationStateRegistry stationStateRegistry;
+    private final StationMediaState mediaState;
+    private final StationQueueStore queueStore;
+    private final SubtitleService subtitleService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final StationClusterRouter clusterRouter;
+
+    private final Map<Integer, String> writtenFingerprints = new ConcurrentHashMap<>();
+    private final Map<Integer, Boolean> restoredStations = new ConcurrentHashMap<>();
+
+    public void restore(Integer stationId) {
+        if (restoredStations.containsKey(stationId)) {
+            return;
+        }
+        try {
+            // One lookup per station per process lifetime; concurrent reconnects wait on the same load.
+            restoredStations.computeIfAbsent(stationId, id -> {
+                snapshotRepository.findById(id).ifPresent(this::apply);
+                return Boolean.TRUE;
+            });
+        } catch (Exception e) {
+            log.error("Failed to restore station snapshot - stationId: {}", stationId, e);
+        }
+    }
+
+    public void discard(Integer stationId) {
+        snapshotRepository.deleteById(stationId);
+    }
+
+    public void forget(Integer stationId) {
+        restoredStations.remove(stationId);
+        writtenFingerprints.remove(stationId);
+    }
+
+    @Scheduled(fixedDelayString = "${station.snapshot.interval-ms:10000}")
+    public void snapshot() {
+        Set<Integer> stationIds = new HashSet<>(mediaState.stationIds());
+        stationIds.addAll(queueStore.stationIds());
+        stationIds.addAll(subtitleService.getEnabledStationIds());
+
+        List<StationSnapshot> snapshots = new ArrayList<>();
+        Map<Integer, String> fingerprints = new HashMap<>();
+        for (Integer stationId : stationIds) {
+            if (!stationStateRegistry.isLoaded(stationId) || !clusterRouter.isLocal(stationId)) {
+                continue;
+            }
+            String fingerprint = fingerprint(stationId);
+            if (fingerprint.equals(writtenFingerprints.get(stationId))) {
+                continue;
+            }
+            StationSnapshot snapshot = capture(stationId);
+            if (snapshot != null) {
+                snapshots.add(snapshot);
+                fingerprints.put(stationId, fingerprint);
+            }
+        }
+        if (snapshots.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> snapshotRepository.saveAll(snapshots));
+            writtenFingerprints.putAll(fingerprints);
+            log.debug("Station snapshots written - stations: {}", snapshots.size());
+        } catch (Exception e) {
+            log.error("Failed to write station snapshots - stations: {}", fingerprints.keySet(), e);
+        }
+    }
+
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        snapshot();
+    }
+
+    private void apply(StationSnapshot snapshot) {
+        Integer stationId = snapshot.getStationId();
+        mediaState.restore(stationId, snapshot.getVideoId(), snapshot.getVolume());
+        if (Boolean.TRUE.equals(snapshot.getSubtitleEnabled())) {
+            subtitleService.restoreEnabled(stationId);
+        }
+        List<QueueItem> items = readQueue(snapshot.getQueueJson());
+        queueStore.restore(stationId, snapshot.getQueueSeq(), items);
+        writtenFingerprints.put(stationId, fingerprint(stationId));
+        log.info("Station state restored - stationId: {}, queueItems: {}", stationId, items.size());
+    }
+
+    private StationSnapshot capture(Integer stationId) {
+        QueueSnapshot queue = queueStore.snapshot(stationId);
+        try {
+            return StationSnapshot.builder()
+                    .stationId(stationId)
+                    .videoId(mediaState.getVideoId(stationId))
+                    .volume(mediaState.getVolume(stationId))
+                    .subtitleEnabled(subtitleService.isSubtitleEnabled(stationId))
+                    .queueSeq(queue.getSeq())
+                    .queueJson(objectMapper.writeValueAsString(queue.getItems()))
+                    .build();
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize station queue - stationId: {}", stationId, e);
+            return null;
+        }
+    }
+
+    private List<QueueItem> readQueue(String queueJson) {
+        if (queueJson == null || queueJson.isBlank()) {
+            return List.of();
+        }
+        try {
+            return objectMapper.readValue(queueJson, new TypeReference<List<QueueItem>>() {});
+        } catch (JsonProcessingException e) {
+            log.warn("Discarding unreadable station queue snapshot", e);
+            return List.of();
+        }
+    }
+
+    private String fingerprint(Integer stationId) {
+        return mediaState.getVideoId(stationId)
+                + "|" + mediaState.getVolume(stationId)
+                + "|" + subtitleService.isSubtitleEnabled(stationId)
+                + "|" + queueStore.seq(stationId);
+    }
+}
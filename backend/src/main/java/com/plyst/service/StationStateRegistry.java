@@ -0,0 +1,273 @@
+package com.plyst.service;
+
+import com.plyst.dto.ClusterDto.ClusterMessage;
+import com.plyst.dto.StationDto.ParticipantInfo;
+import com.plyst.dto.StationDto.RosterSnapshot;
+import com.plyst.dto.StationDto.UserInfo;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+@Component
+@RequiredArgsConstructor
+public class StationStateRegistry implements ClusterBus.ChannelListener {
+
+    private final ClusterBus clusterBus;
+
+    private final Map<Integer, StationState> stationStates = new ConcurrentHashMap<>();
+
+    public StationState getOrLoad(Integer stationId, Function<Integer, StationState> loader) {
+        StationState state = stationStates.get(stationId);
+        if (state != null && !state.isStale()) {
+            return state;
+        }
+
+        StationState loaded = loader.apply(stationId);
+        if (loaded == null) {
+            if (state != null) {
+                stationStates.remove(stationId, state);
+            }
+            return null;
+        }
+
+        if (state != null) {
+            loaded.continueFrom(state);
+            return stationStates.replace(stationId, state, loaded) ? loaded : stationStates.getOrDefault(stationId, loaded);
+        }
+        StationState existing = stationStates.putIfAbsent(stationId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    public void register(StationState state) {
+        stationStates.put(state.getStationId(), state);
+    }
+
+    public void remove(Integer stationId) {
+        stationStates.remove(stationId);
+        publishInvalidation(stationId);
+    }
+
+    // Called after a roster change commits; other nodes drop their copy and reload it from the database.
+    public void changed(StationState state) {
+        // A copy reloaded while this change was in flight may predate the commit.
+        stationStates.computeIfPresent(state.getStationId(), (id, current) -> {
+            if (current != state) {
+                current.markStale();
+            }
+            return current;
+        });
+        publishInvalidation(state.getStationId());
+    }
+
+    @Override
+    public String channel() {
+        return ClusterBus.CHANNEL_REGISTRY;
+    }
+
+    @Override
+    public void onClusterMessage(ClusterMessage message) {
+        StationState state = clusterBus.isLocal(message) ? null : stationStates.get(message.getStationId());
+        if (state != null) {
+            state.markStale();
+        }
+    }
+
+    private void publishInvalidation(Integer stationId) {
+        clusterBus.publishToStation(ClusterBus.CHANNEL_REGISTRY, stationId, null, false);
+    }
+
+    public List<StationState> removeUser(Integer userId) {
+        List<StationState> affected = stationStates.values().stream()
+                .filter(state -> state.isParticipant(userId))
+                .toList();
+        stationStates.values().forEach(state -> {
+            state.removeParticipant(userId);
+            state.unban(userId);
+        });
+        return affected;
+    }
+
+    public Collection<StationState> getLoadedStates() {
+        return List.copyOf(stationStates.values());
+    }
+
+    public boolean isLoaded(Integer stationId) {
+        return stationStates.containsKey(stationId);
+    }
+
+    public enum Admission {
+        RESERVED, MEMBER, BANNED, FULL, IN_PROGRESS
+    }
+
+    @Getter
+    public static class StationState {
+        private final Integer stationId;
+        private final int maxParticipants;
+        private volatile Integer hostUserId;
+        private volatile long rosterVersion;
+        private final Map<Integer, ParticipantInfo> participants = new ConcurrentHashMap<>();
+        private final Set<Integer> bannedUserIds = ConcurrentHashMap.newKeySet();
+        private final Set<Integer> reservedUserIds = ConcurrentHashMap.newKeySet();
+        private volatile boolean stale;
+
+        public StationState(Integer stationId, int maxParticipants) {
+            this.stationId = stationId;
+            this.maxParticipants = maxParticipants;
+        }
+
+        public boolean isHost(Integer userId) {
+            return userId != null && userId.equals(hostUserId);
+        }
+
+        public boolean isParticipant(Integer userId) {
+            return participants.containsKey(userId);
+        }
+
+        public boolean isBanned(Integer userId) {
+            return bannedUserIds.contains(userId);
+        }
+
+        public ParticipantInfo getParticipant(Integer userId) {
+            return participants.get(userId);
+        }
+
+        public List<ParticipantInfo> getParticipantList() {
+            return participants.values().stream()
+                    .sorted(Comparator.comparing(ParticipantInfo::getJoinedAt))
+                    .toList();
+        }
+
+        public int getParticipantCount() {
+            return participants.size();
+        }
+
+        // Reserved slots count against capacity until committed or released, so concurrent joins cannot overfill.
+        public synchronized Admission reserve(Integer userId) {
+            if (participants.containsKey(userId)) {
+                return Admission.MEMBER;
+            }
+            if (bannedUserIds.contains(userId)) {
+                return Admission.BANNED;
+            }
+            if (reservedUserIds.contains(userId)) {
+                return Admission.IN_PROGRESS;
+            }
+            if (participants.size() + reservedUserIds.size() >= maxParticipants) {
+                return Admission.FULL;
+            }
+            reservedUserIds.add(userId);
+            return Admission.RESERVED;
+        }
+
+        public synchronized void commit(ParticipantInfo participant) {
+            reservedUserIds.remove(participant.getId());
+            putParticipant(participant);
+        }
+
+        public synchronized void release(Integer userId) {
+            reservedUserIds.remove(userId);
+        }
+
+        public synchronized RosterSnapshot snapshot() {
+            ParticipantInfo host = hostUserId != null ? participants.get(hostUserId) : null;
+            return RosterSnapshot.builder()
+                    .version(rosterVersion)
+                    .participants(getParticipantList())
+                    .host(host != null ? toUserInfo(host) : null)
+                    .build();
+        }
+
+        public UserInfo getHost() {
+            Integer hostId = hostUserId;
+            ParticipantInfo host = hostId != null ? participants.get(hostId) : null;
+            return host != null ? toUserInfo(host) : null;
+        }
+
+        public synchronized void putParticipant(ParticipantInfo participant) {
+            ParticipantInfo previous = participants.put(participant.getId(), participant);
+            if ("HOST".equals(participant.getRole())) {
+                hostUserId = participant.getId();
+            }
+            if (!participant.equals(previous)) {
+                rosterVersion++;
+            }
+        }
+
+        public synchronized void removeParticipant(Integer userId) {
+            if (participants.remove(userId) == null) {
+                return;
+            }
+            if (userId.equals(hostUserId)) {
+                hostUserId = null;
+            }
+            rosterVersion++;
+        }
+
+        public synchronized void removeParticipants(Collection<Integer> userIds, Integer newHostId) {
+            userIds.forEach(participants::remove);
+            if (newHostId != null) {
+                updateRole(newHostId, "HOST");
+                hostUserId = newHostId;
+            } else if (hostUserId != null && userIds.contains(hostUserId)) {
+                hostUserId = null;
+            }
+            rosterVersion++;
+        }
+
+        public synchronized void changeHost(Integer newHostId) {
+            Integer previousHostId = hostUserId;
+            if (newHostId.equals(previousHostId)) {
+                return;
+            }
+            if (previousHostId != null) {
+                updateRole(previousHostId, "MEMBER");
+            }
+            updateRole(newHostId, "HOST");
+            hostUserId = newHostId;
+            rosterVersion++;
+        }
+
+        void markStale() {
+            stale = true;
+        }
+
+        // Roster versions keep increasing across reloads so clients never see them go backwards.
+        synchronized void continueFrom(StationState previous) {
+            rosterVersion = Math.max(rosterVersion, previous.getRosterVersion() + 1);
+        }
+
+        public void ban(Integer userId) {
+            bannedUserIds.add(userId);
+        }
+
+        public void unban(Integer userId) {
+            bannedUserIds.remove(userId);
+        }
+
+        private UserInfo toUserInfo(ParticipantInfo participant) {
+            return UserInfo.builder()
+                    .id(participant.getId())
+                    .nickname(participant.getNickname())
+                    .avatar(participant.getAvatar())
+                    .build();
+        }
+
+        private void updateRole(Integer userId, String role) {
+            participants.computeIfPresent(userId, (id, p) -> ParticipantInfo.builder()
+                    .id(p.getId())
+                    .nickname(p.getNickname())
+                    .avatar(p.getAvatar())
+                    .role(role)
+                    .joinedAt(p.getJoinedAt())
+                    .build());
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package com.plyst.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.plyst.config.SubtitleProperties;
+import com.plyst.dto.SubtitleDto.SubtitleSegment;
+import com.plyst.entity.SubtitleTrack;
+import com.plyst.repository.SubtitleTrackRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubtitleCache {
+
+    private static final String RECORD_PLAYS_SQL =
+            "UPDATE subtitle_tracks SET play_count = play_count + ?, last_played_at = ? WHERE video_id = ?";
+    private static final long ABSENT_MAX_SIZE = 10_000;
+
+    private final SubtitleTrackRepository subtitleTrackRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final SubtitleProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    // Access-ordered, bounded by total segment count; the persistent table is the tier below it.
+    private final LinkedHashMap<String, List<SubtitleSegment>> memory = new LinkedHashMap<>(64, 0.75f, true);
+    private long memorySegments;
+    private final Map<String, LongAdder> pendingPlays = new ConcurrentHashMap<>();
+    // Videos the store had no row for; status checks on every connect would otherwise re-query them.
+    private Cache<String, Boolean> absent;
+
+    private Counter memoryHits;
+    private Counter storeHits;
+    private Counter misses;
+    private Counter evictions;
+
+    @PostConstruct
+    public void init() {
+        memoryHits = requests("hit", "memory");
+        storeHits = requests("hit", "store");
+        misses = requests("miss", "none");
+        evictions = meterRegistry.counter("subtitle.cache.evictions");
+        absent = Caffeine.newBuilder()
+                .maximumSize(ABSENT_MAX_SIZE)
+                .expireAfterWrite(Duration.ofMillis(properties.getCache().getNegativeTtlMs()))
+                .build();
+        Gauge.builder("subtitle.cache.entries", this, SubtitleCache::memorySize).register(meterRegistry);
+        Gauge.builder("subtitle.cache.segments", this, SubtitleCache::memorySegments).register(meterRegistry);
+    }
+
+    public List<SubtitleSegment> get(String videoId) {
+        List<SubtitleSegment> segments = getFromMemory(videoId);
+        if (segments != null) {
+            memoryHits.increment();
+            return segments;
+        }
+        if (absent.getIfPresent(videoId) != null) {
+            misses.increment();
+            return null;
+        }
+
+        try {
+            segments = load(videoId);
+        } catch (Exception e) {
+            log.error("Failed to load persisted subtitles - videoId: {}", videoId, e);
+            return null;
+        }
+        if (segments == null) {
+            absent.put(videoId, Boolean.TRUE);
+            misses.increment();
+            return null;
+        }
+        storeHits.increment();
+        putInMemory(videoId, segments);
+        return segments;
+    }
+
+    // Memory tier only, for rechecks that must not go to the store again.
+    public List<SubtitleSegment> peek(String videoId) {
+        return getFromMemory(videoId);
+    }
+
+    public void put(String videoId, List<SubtitleSegment> segments) {
+        putInMemory(videoId, segments);
+        absent.invalidate(videoId);
+        // Plays recorded while the video was still being transcribed have no row to land on yet; the new row starts with them.
+        long plays = takePendingPlays(videoId);
+        try {
+            subtitleTrackRepository.save(SubtitleTrack.builder()
+                    .videoId(videoId)
+                    .originalLanguage(segments.isEmpty() ? null : segments.get(0).getOriginalLanguage())
+                    .segmentCount(segments.size())
+                    .segmentsGz(compress(segments))
+                    .playCount(plays)
+                    .build());
+        } catch (Exception e) {
+            log.error("Failed to persist subtitles - videoId: {}", videoId, e);
+        }
+    }
+
+    public void recordPlay(String videoId) {
+        addPendingPlays(videoId, 1);
+    }
+
+    // Nothing will be persisted for this video, so its pending plays have nowhere to go.
+    public void discardPendingPlays(String videoId) {
+        pendingPlays.remove(videoId);
+    }
+
+    public void evict(String videoId) {
+        synchronized (memory) {
+            List<SubtitleSegment> removed = memory.remove(videoId);
+            if (removed != null) {
+                memorySegments -= removed.size();
+            }
+        }
+        pendingPlays.remove(videoId);
+        subtitleTrackRepository.deleteById(videoId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmup() {
+        int count = properties.getCache().getWarmupCount();
+        if (count <= 0) {
+            return;
+        }
+        try {
+            List<SubtitleTrack> tracks = subtitleTrackRepository.findByOrderByPlayCountDesc(PageRequest.of(0, count));
+            for (SubtitleTrack track : tracks) {
+                putInMemory(track.getVideoId(), decompress(track.getSegmentsGz()));
+            }
+            log.info("Subtitle cache warmed up - videos: {}, segments: {}", tracks.size(), memorySegments());
+        } catch (Exception e) {
+            log.error("Failed to warm up subtitle cache", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${subtitle.cache.flush-interval-ms:30000}")
+    public void flushPlays() {
+        if (pendingPlays.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>();
+        for (String videoId : List.copyOf(pendingPlays.keySet())) {
+            long plays = takePendingPlays(videoId);
+            if (plays > 0) {
+                rows.add(new Object[]{plays, now, videoId});
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        int[] updated;
+        try {
+            updated = jdbcTemplate.batchUpdate(RECORD_PLAYS_SQL, rows);
+        } catch (Exception e) {
+            log.error("Failed to flush subtitle play counts - videos: {}", rows.size(), e);
+            rows.forEach(this::requeue);
+            return;
+        }
+        // A zero count means the row is not written yet; put() picks the plays up when it is.
+        for (int i = 0; i < rows.size() && i < updated.length; i++) {
+            if (updated[i] == 0) {
+                requeue(rows.get(i));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushPlays();
+    }
+
+    private long takePendingPlays(String videoId) {
+        LongAdder plays = pendingPlays.remove(videoId);
+        return plays != null ? plays.sum() : 0;
+    }
+
+    private void addPendingPlays(String videoId, long plays) {
+        pendingPlays.computeIfAbsent(videoId, id -> new LongAdder()).add(plays);
+    }
+
+    private void requeue(Object[] row) {
+        addPendingPlays((String) row[2], (Long) row[0]);
+    }
+
+    private List<SubtitleSegment> getFromMemory(String videoId) {
+        synchronized (memory) {
+            return memory.get(videoId);
+        }
+    }
+
+    private void putInMemory(String videoId, List<SubtitleSegment> segments) {
+        int maxSegments = properties.getCache().getMaxSegments();
+        synchronized (memory) {
+            List<SubtitleSegment> previous = memory.put(videoId, List.copyOf(segments));
+            memorySegments += segments.size() - (previous != null ? previous.size() : 0);
+
+            Iterator<Map.Entry<String, List<SubtitleSegment>>> eldest = memory.entrySet().iterator();
+            while (memorySegments > maxSegments && eldest.hasNext()) {
+                Map.Entry<String, List<SubtitleSegment>> entry = eldest.next();
+                if (entry.getKey().equals(videoId)) {
+                    continue;
+                }
+                memorySegments -= entry.getValue().size();
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    private List<SubtitleSegment> load(String videoId) {
+        return subtitleTrackRepository.findById(videoId)
+                .map(track -> decompress(track.getSegmentsGz()))
+                .orElse(null);
+    }
+
+    private byte[] compress(List<SubtitleSegment> segments) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, segments);
+        }
+        return bytes.toByteArray();
+    }
+
+    private List<SubtitleSegment> decompress(byte[] data) {
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return objectMapper.readValue(gzip, new TypeReference<List<SubtitleSegment>>() {});
+        } catch (IOException e) {
+            throw new IllegalStateException("Corrupt subtitle payload", e);
+        }
+    }
+
+    private int memorySize() {
+        synchronized (memory) {
+            return memory.size();
+        }
+    }
+
+    private long memorySegments() {
+        synchronized (memory) {
+            return memorySegments;
+        }
+    }
+
+    private Counter requests(String result, String tier) {
+        return Counter.builder("subtitle.cache.requests")
+                .tag("result", result)
+                .tag("tier", tier)
+                .register(meterRegistry);
+    }
+}
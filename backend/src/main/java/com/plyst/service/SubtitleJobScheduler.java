@@ -0,0 +1,213 @@
+package com.plyst.service;
+
+import com.plyst.config.SubtitleProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubtitleJobScheduler {
+
+    // Declaration order is scheduling order.
+    public enum Priority {
+        PLAYING, REQUESTED, PREFETCH
+    }
+
+    // IO runs the yt-dlp/ffmpeg pipelines; API runs the Whisper and translation HTTP calls.
+    public enum Pool {
+        IO, API
+    }
+
+    private final SubtitleProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Pool, ThreadPoolExecutor> executors = new EnumMap<>(Pool.class);
+    private final AtomicLong sequence = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        SubtitleProperties.Scheduler scheduler = properties.getScheduler();
+        executors.put(Pool.IO, executor("subtitle-io-", scheduler.getIoThreads()));
+        executors.put(Pool.API, executor("subtitle-api-", scheduler.getApiThreads()));
+        executors.forEach((pool, executor) -> {
+            Gauge.builder("subtitle.jobs.queued", executor, e -> e.getQueue().size())
+                    .tag("pool", pool.name().toLowerCase())
+                    .register(meterRegistry);
+            Gauge.builder("subtitle.jobs.active", executor, ThreadPoolExecutor::getActiveCount)
+                    .tag("pool", pool.name().toLowerCase())
+                    .register(meterRegistry);
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executors.values().forEach(ThreadPoolExecutor::shutdownNow);
+    }
+
+    public Ticket ticket(String videoId, Priority priority) {
+        return new Ticket(videoId, priority);
+    }
+
+    public <T> CompletableFuture<T> submit(Ticket ticket, Pool pool, Supplier<T> work) {
+        Task<T> task = new Task<>(ticket, pool, work);
+        ThreadPoolExecutor executor = executors.get(pool);
+        if (pool == Pool.IO && !admit(executor, task)) {
+            rejected(ticket.getPriority()).increment();
+            return CompletableFuture.failedFuture(new RejectedExecutionException("Subtitle queue is full"));
+        }
+        ticket.pending.add(task);
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            ticket.pending.remove(task);
+            task.future.completeExceptionally(e);
+        }
+        return task.future;
+    }
+
+    // Queued work of a job moves ahead when a higher-priority caller attaches to it.
+    public void promote(Ticket ticket, Priority priority) {
+        if (priority.ordinal() >= ticket.getPriority().ordinal()) {
+            return;
+        }
+        ticket.priority = priority;
+        for (Task<?> task : ticket.pending) {
+            ThreadPoolExecutor executor = executors.get(task.pool);
+            if (executor.getQueue().remove(task)) {
+                task.rank = priority.ordinal();
+                executor.execute(task);
+            }
+        }
+        log.info("자막 작업 우선순위 상향: videoId={}, priority={}", ticket.getVideoId(), priority);
+    }
+
+    // Work still queued for a finished (or timed out) job is dropped so it does not occupy a pool.
+    public void complete(Ticket ticket, boolean success) {
+        for (Task<?> task : ticket.pending) {
+            if (executors.get(task.pool).getQueue().remove(task)) {
+                task.future.completeExceptionally(new CancellationException("Subtitle job finished"));
+            }
+        }
+        ticket.pending.clear();
+        Timer.builder("subtitle.jobs.duration")
+                .tag("priority", ticket.getPriority().name().toLowerCase())
+                .tag("outcome", success ? "success" : "failure")
+                .register(meterRegistry)
+                .record(System.nanoTime() - ticket.createdAt, TimeUnit.NANOSECONDS);
+    }
+
+    // A full queue makes room only by evicting queued work of strictly lower priority.
+    private boolean admit(ThreadPoolExecutor executor, Task<?> task) {
+        BlockingQueue<Runnable> queue = executor.getQueue();
+        if (queue.size() < properties.getScheduler().getMaxQueuedJobs()) {
+            return true;
+        }
+        Task<?> lowest = queue.stream()
+                .map(runnable -> (Task<?>) runnable)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        if (lowest == null || lowest.rank <= task.rank || !queue.remove(lowest)) {
+            return false;
+        }
+        lowest.ticket.pending.remove(lowest);
+        lowest.future.completeExceptionally(new RejectedExecutionException("Evicted by higher priority subtitle job"));
+        rejected(lowest.ticket.getPriority()).increment();
+        log.info("자막 작업 밀려남: videoId={}", lowest.ticket.getVideoId());
+        return true;
+    }
+
+    private Counter rejected(Priority priority) {
+        return Counter.builder("subtitle.jobs.rejected")
+                .tag("priority", priority.name().toLowerCase())
+                .register(meterRegistry);
+    }
+
+    private ThreadPoolExecutor executor(String prefix, int threads) {
+        AtomicInteger count = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new PriorityBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Getter
+    public static class Ticket {
+        private final String videoId;
+        private volatile Priority priority;
+        private final long createdAt = System.nanoTime();
+        private final Set<Task<?>> pending = ConcurrentHashMap.newKeySet();
+
+        private Ticket(String videoId, Priority priority) {
+            this.videoId = videoId;
+            this.priority = priority;
+        }
+    }
+
+    private class Task<T> implements Runnable, Comparable<Task<?>> {
+        private final Ticket ticket;
+        private final Pool pool;
+        private final Supplier<T> work;
+        private final long seq = sequence.incrementAndGet();
+        private final long enqueuedAt = System.nanoTime();
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private volatile int rank;
+
+        private Task(Ticket ticket, Pool pool, Supplier<T> work) {
+            this.ticket = ticket;
+            this.pool = pool;
+            this.work = work;
+            this.rank = ticket.getPriority().ordinal();
+        }
+
+        @Override
+        public void run() {
+            ticket.pending.remove(this);
+            Timer.builder("subtitle.jobs.wait")
+                    .tag("pool", pool.name().toLowerCase())
+                    .tag("priority", ticket.getPriority().name().toLowerCase())
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                future.complete(work.get());
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            }
+        }
+
+        @Override
+        public int compareTo(Task<?> other) {
+            int byRank = Integer.compare(rank, other.rank);
+            return byRank != 0 ? byRank : Long.compare(seq, other.seq);
+        }
+    }
+}
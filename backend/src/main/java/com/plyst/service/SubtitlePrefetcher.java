@@ -0,0 +1,111 @@
+package com.plyst.service;
+
+import com.plyst.config.SubtitleProperties;
+import com.plyst.dto.StationDto.QueueItem;
+import com.plyst.dto.SubtitleDto.SubtitleSegment;
+import com.plyst.service.SubtitleJobScheduler.Priority;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubtitlePrefetcher {
+
+    private final SubtitleService subtitleService;
+    private final WhisperService whisperService;
+    private final StationQueueStore stationQueueStore;
+    private final StationMediaState mediaState;
+    private final SubtitleProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("subtitle-prefetch-", 0).factory());
+
+    // Warms the next few tracks of a subtitle-enabled station so a track change rarely starts without subtitles.
+    // Called on the station mailbox, so only in-memory state is read here; the cache lookup, which may hit the
+    // database, happens inside getSubtitles on the prefetch executor.
+    public void prefetch(Integer stationId) {
+        if (!subtitleService.isSubtitleEnabled(stationId)) {
+            return;
+        }
+
+        for (String videoId : upcoming(stationId)) {
+            if (whisperService.isProcessing(videoId)) {
+                record("in_flight");
+                continue;
+            }
+            if (active.incrementAndGet() > properties.getPrefetch().getMaxInFlight()) {
+                active.decrementAndGet();
+                record("over_budget");
+                return;
+            }
+
+            executor.execute(() -> fetch(stationId, videoId));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void fetch(Integer stationId, String videoId) {
+        CompletableFuture<List<SubtitleSegment>> subtitles;
+        try {
+            subtitles = whisperService.getSubtitles(videoId, null, Priority.PREFETCH);
+        } catch (Exception e) {
+            active.decrementAndGet();
+            record("failed");
+            log.warn("다음 곡 자막 미리 생성 실패: stationId={}, videoId={}", stationId, videoId, e);
+            return;
+        }
+
+        if (subtitles.isDone()) {
+            record(subtitles.isCompletedExceptionally() || subtitles.join().isEmpty() ? "failed" : "cached");
+        } else {
+            record("scheduled");
+            log.info("다음 곡 자막 미리 생성: stationId={}, videoId={}", stationId, videoId);
+        }
+        subtitles.whenComplete((segments, ex) -> active.decrementAndGet());
+    }
+
+    private Set<String> upcoming(Integer stationId) {
+        List<QueueItem> items = stationQueueStore.snapshot(stationId).getItems();
+        String current = mediaState.getVideoId(stationId);
+
+        int start = 0;
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i).getVideoId() != null && items.get(i).getVideoId().equals(current)) {
+                start = i + 1;
+                break;
+            }
+        }
+
+        int lookahead = properties.getPrefetch().getLookahead();
+        Set<String> videoIds = new LinkedHashSet<>();
+        for (int i = start; i < items.size() && videoIds.size() < lookahead; i++) {
+            String videoId = items.get(i).getVideoId();
+            if (videoId != null && !videoId.equals(current)) {
+                videoIds.add(videoId);
+            }
+        }
+        return videoIds;
+    }
+
+    private void record(String result) {
+        meterRegistry.counter("subtitle.prefetch.requests", "result", result).increment();
+    }
+}
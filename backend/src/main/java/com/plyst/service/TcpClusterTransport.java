@@ -0,0 +1,188 @@
+package com.plyst.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.plyst.config.ClusterProperties;
+import com.plyst.dto.ClusterDto.ClusterMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cluster.transport", havingValue = "tcp")
+public class TcpClusterTransport implements ClusterTransport {
+
+    private final ClusterProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private static final int MAX_WRITE_BATCH = 256;
+
+    private volatile Consumer<ClusterMessage> receiver = message -> { };
+    private volatile Socket socket;
+    private volatile BufferedWriter writer;
+    private volatile boolean running = true;
+    private BlockingQueue<String> outbound;
+    private Thread writerThread;
+
+    @PostConstruct
+    public void start() {
+        outbound = new LinkedBlockingQueue<>(properties.getRelay().getOutboundQueueSize());
+        Gauge.builder("cluster.outbound.pending", outbound, BlockingQueue::size)
+                .register(meterRegistry);
+        Thread.ofVirtual().name("cluster-relay").start(this::readLoop);
+        writerThread = Thread.ofVirtual().name("cluster-relay-writer").start(this::writeLoop);
+    }
+
+    // Publishers never touch the socket: a stalled relay fills the queue and further frames are dropped, not blocked on.
+    @Override
+    public void publish(ClusterMessage message) {
+        receiver.accept(message);
+
+        if (writer == null) {
+            log.debug("Cluster relay unavailable, delivered locally only - channel: {}", message.getChannel());
+            return;
+        }
+        try {
+            if (!outbound.offer(objectMapper.writeValueAsString(message))) {
+                dropped("queue_full", 1);
+                log.debug("Cluster outbound queue full, frame dropped - channel: {}", message.getChannel());
+            }
+        } catch (IOException e) {
+            log.warn("Failed to serialize cluster message - channel: {}, reason: {}", message.getChannel(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void setReceiver(Consumer<ClusterMessage> receiver) {
+        this.receiver = receiver;
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (writerThread != null) {
+            writerThread.interrupt();
+        }
+        closeQuietly(socket);
+    }
+
+    private void writeLoop() {
+        List<String> batch = new ArrayList<>(MAX_WRITE_BATCH);
+        while (running) {
+            try {
+                batch.add(outbound.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            outbound.drainTo(batch, MAX_WRITE_BATCH - 1);
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<String> batch) {
+        BufferedWriter out = writer;
+        if (out == null) {
+            dropped("disconnected", batch.size());
+            return;
+        }
+        try {
+            for (String line : batch) {
+                out.write(line);
+                out.write('\n');
+            }
+            out.flush();
+        } catch (IOException e) {
+            dropped("write_failed", batch.size());
+            log.warn("Failed to publish to cluster relay - frames: {}, reason: {}", batch.size(), e.getMessage());
+            // The read loop notices the closed socket and reconnects.
+            closeQuietly(socket);
+        }
+    }
+
+    private void dropped(String reason, int frames) {
+        Counter.builder("cluster.frames.dropped")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment(frames);
+    }
+
+    // One newline-delimited JSON stream per node; the relay echoes every line to all connected nodes.
+    private void readLoop() {
+        ClusterProperties.Relay relay = properties.getRelay();
+        while (running) {
+            try (Socket connection = new Socket(relay.getHost(), relay.getPort())) {
+                connection.setTcpNoDelay(true);
+                socket = connection;
+                writer = new BufferedWriter(new OutputStreamWriter(connection.getOutputStream(), StandardCharsets.UTF_8));
+                log.info("Connected to cluster relay - {}:{}, nodeId: {}", relay.getHost(), relay.getPort(), properties.getNodeId());
+
+                BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    receive(line);
+                }
+            } catch (IOException e) {
+                if (running) {
+                    log.warn("Cluster relay connection lost - {}:{}, reason: {}", relay.getHost(), relay.getPort(), e.getMessage());
+                }
+            } finally {
+                writer = null;
+                socket = null;
+            }
+
+            if (running) {
+                try {
+                    Thread.sleep(relay.getReconnectDelayMs());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void receive(String line) {
+        try {
+            ClusterMessage message = objectMapper.readValue(line, ClusterMessage.class);
+            if (!properties.getNodeId().equals(message.getOrigin())) {
+                receiver.accept(message);
+            }
+        } catch (Exception e) {
+            log.error("Failed to handle cluster message", e);
+        }
+    }
+
+    private void closeQuietly(Socket connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (IOException e) {
+            log.debug("Failed to close cluster relay socket", e);
+        }
+    }
+}
@@ -24,6 +24,8 @@ import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Optional;
@@ -44,10 +46,13 @@ public class UserService {
     private final CommentLikeRepository commentLikeRepository;
     private final TrackLikeRepository trackLikeRepository;
     private final BlockRepository blockRepository;
+    private final BlockService blockService;
     private final NotificationRepository notificationRepository;
     private final OAuthAccountRepository oAuthAccountRepository;
     private final StationParticipantRepository stationParticipantRepository;
     private final StationBanRepository stationBanRepository;
+    private final StationStateRegistry stationStateRegistry;
+    private final StationLobbyIndex stationLobbyIndex;
     private final EntityManager entityManager;
     
     // 회원가입
@@ -660,9 +665,19 @@ public class UserService {
         followRepository.deleteByFollowingId(userId);
         blockRepository.deleteByBlockerId(userId);
         blockRepository.deleteByBlockedId(userId);
+        blockService.evictUser(userId);
         notificationRepository.deleteByUserId(userId.longValue());
         stationParticipantRepository.deleteByUserId(userId);
         stationBanRepository.deleteByUserId(userId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                stationStateRegistry.removeUser(userId).forEach(state -> {
+                    stationStateRegistry.changed(state);
+                    stationLobbyIndex.updateRoster(state.getStationId(), state);
+                });
+            }
+        });
         oAuthAccountRepository.deleteByUserId(userId);
         profileRepository.deleteByUserId(userId);
         
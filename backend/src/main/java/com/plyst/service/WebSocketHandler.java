@@ -1,6 +1,6 @@
 package com.plyst.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.plyst.dto.ClusterDto.ClusterMessage;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.CloseStatus;
@@ -9,23 +9,30 @@ import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Component
 @SuppressWarnings("null")
-public class WebSocketHandler extends TextWebSocketHandler {
+public class WebSocketHandler extends TextWebSocketHandler implements ClusterBus.ChannelListener {
     
     private final Map<Long, WebSocketSession> userSessions = new ConcurrentHashMap<>();
-    private final ObjectMapper objectMapper;
+    private final Map<String, WebSocketSession> outboundSessions = new ConcurrentHashMap<>();
+    private final WebSocketOutbound webSocketOutbound;
+    private final ClusterBus clusterBus;
+    private final WebSocketMetrics metrics;
     
-    public WebSocketHandler(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
+    public WebSocketHandler(WebSocketOutbound webSocketOutbound, ClusterBus clusterBus, WebSocketMetrics metrics) {
+        this.webSocketOutbound = webSocketOutbound;
+        this.clusterBus = clusterBus;
+        this.metrics = metrics;
     }
     
     @Override
-    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+    public void afterConnectionEstablished(WebSocketSession rawSession) throws Exception {
+        WebSocketSession session = webSocketOutbound.decorate(rawSession);
         String query = session.getUri().getQuery();
         Long userId = parseUserId(query);
         
@@ -40,6 +47,8 @@ public class WebSocketHandler extends TextWebSocketHandler {
             }
             
             userSessions.put(userId, session);
+            outboundSessions.put(session.getId(), session);
+            metrics.sessionOpened(WebSocketMetrics.TRANSPORT_GLOBAL, null);
             log.info("WebSocket 연결됨 - userId: {}, sessionId: {}", userId, session.getId());
             
             if (session.isOpen()) {
@@ -57,14 +66,18 @@ public class WebSocketHandler extends TextWebSocketHandler {
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
         userSessions.entrySet().removeIf(entry -> 
             entry.getValue().getId().equals(session.getId()));
+        if (outboundSessions.remove(session.getId()) != null) {
+            metrics.sessionClosed(WebSocketMetrics.TRANSPORT_GLOBAL, null, status);
+        }
         log.info("WebSocket 연결 종료 - sessionId: {}, status: {}", session.getId(), status);
     }
     
     @Override
     protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
         String payload = message.getPayload();
+        metrics.messageIn(WebSocketMetrics.TRANSPORT_GLOBAL, null, "ping".equals(payload) ? "ping" : "text");
         if ("ping".equals(payload)) {
-            sendToSession(session, Map.of("type", "pong"));
+            sendToSession(outboundSessions.get(session.getId()), Map.of("type", "pong"));
         }
         log.debug("메시지 수신: {}", payload);
     }
@@ -78,43 +91,49 @@ public class WebSocketHandler extends TextWebSocketHandler {
         }
         userSessions.entrySet().removeIf(entry -> 
             entry.getValue().getId().equals(session.getId()));
+        if (outboundSessions.remove(session.getId()) != null) {
+            metrics.sessionClosed(WebSocketMetrics.TRANSPORT_GLOBAL, null,
+                    exception instanceof IOException ? CloseStatus.NO_CLOSE_FRAME : CloseStatus.SERVER_ERROR);
+        }
     }
     
     public void sendNotificationToUser(Long userId, Object notification) {
-        WebSocketSession session = userSessions.get(userId);
-        if (session != null && session.isOpen()) {
-            sendToSession(session, notification);
-        }
+        clusterBus.publishToUser(ClusterBus.CHANNEL_GLOBAL, userId, notification);
     }
     
     public void broadcastNotification(Object notification) {
-        userSessions.values().forEach(session -> {
-            if (session.isOpen()) {
-                sendToSession(session, notification);
-            }
-        });
+        clusterBus.publish(ClusterBus.CHANNEL_GLOBAL, notification);
     }
     
     public void broadcastExcept(Long excludeUserId, Object notification) {
-        userSessions.forEach((userId, session) -> {
-            if (!userId.equals(excludeUserId) && session.isOpen()) {
-                sendToSession(session, notification);
-            }
-        });
+        clusterBus.publishExcept(ClusterBus.CHANNEL_GLOBAL, excludeUserId, notification);
+    }
+    
+    @Override
+    public String channel() {
+        return ClusterBus.CHANNEL_GLOBAL;
     }
     
-    private synchronized void sendToSession(WebSocketSession session, Object data) {
-        if (session == null || !session.isOpen()) {
+    // 모든 노드가 자신에게 연결된 세션으로만 전달
+    @Override
+    public void onClusterMessage(ClusterMessage message) {
+        if (message.getUserId() != null) {
+            WebSocketSession session = userSessions.get(message.getUserId());
+            if (session != null && session.isOpen()) {
+                sendToSession(session, message.getPayload());
+            }
             return;
         }
-        try {
-            String json = objectMapper.writeValueAsString(data);
-            session.sendMessage(new TextMessage(json));
-        } catch (IOException e) {
-            log.debug("메시지 전송 실패 (연결 끊김) - sessionId: {}", session.getId());
-        } catch (Exception e) {
-            log.error("메시지 전송 실패 - sessionId: {}", session.getId(), e);
-        }
+        
+        WebSocketSession excluded = message.getExcludeUserId() != null ? userSessions.get(message.getExcludeUserId()) : null;
+        List<WebSocketSession> recipients = userSessions.values().stream()
+                .filter(session -> session != excluded)
+                .toList();
+        webSocketOutbound.broadcast("global", recipients, message.getPayload(), false);
+    }
+    
+    private void sendToSession(WebSocketSession session, Object data) {
+        webSocketOutbound.convertAndSend(session, data);
     }
     
     private Long parseUserId(String query) {
@@ -0,0 +1,75 @@
+package com.plyst.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+@Component
+public class WebSocketMessageCodec {
+
+    public static final MimeType CBOR_MIME_TYPE = new MimeType("application", "cbor");
+
+    public static final String ENCODING_ATTRIBUTE = "wireEncoding";
+    public static final String ENCODING_PARAM = "encoding";
+
+    public enum WireEncoding {
+        JSON, CBOR;
+
+        public static WireEncoding from(String value) {
+            return "cbor".equalsIgnoreCase(value) ? CBOR : JSON;
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper;
+
+    public WebSocketMessageCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.cborMapper = objectMapper.copyWith(new CBORFactory());
+    }
+
+    public ObjectMapper getCborMapper() {
+        return cborMapper;
+    }
+
+    public WebSocketMessage<?> encode(Object data, WireEncoding encoding) throws JsonProcessingException {
+        if (encoding == WireEncoding.CBOR) {
+            return new BinaryMessage(cborMapper.writeValueAsBytes(data));
+        }
+        return new TextMessage(objectMapper.writeValueAsString(data));
+    }
+
+    public byte[] encodeBytes(Object data, WireEncoding encoding) throws JsonProcessingException {
+        return encoding == WireEncoding.CBOR ? cborMapper.writeValueAsBytes(data) : objectMapper.writeValueAsBytes(data);
+    }
+
+    public byte[] encodeCbor(Object data) throws JsonProcessingException {
+        return cborMapper.writeValueAsBytes(data);
+    }
+
+    public JsonNode decodeCbor(ByteBuffer payload) throws IOException {
+        byte[] bytes = new byte[payload.remaining()];
+        payload.get(bytes);
+        return cborMapper.readTree(bytes);
+    }
+
+    public static WireEncoding encodingOf(WebSocketSession session) {
+        return encodingOf(session.getAttributes());
+    }
+
+    public static WireEncoding encodingOf(Map<String, Object> attributes) {
+        Object value = attributes != null ? attributes.get(ENCODING_ATTRIBUTE) : null;
+        return value instanceof WireEncoding encoding ? encoding : WireEncoding.JSON;
+    }
+}
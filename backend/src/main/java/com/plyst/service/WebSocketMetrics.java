@@ -0,0 +1,250 @@
+package com.plyst.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.plyst.dto.StationDto.StationSocketStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+@RequiredArgsConstructor
+public class WebSocketMetrics {
+
+    public static final String TRANSPORT_STATION = "station";
+    public static final String TRANSPORT_STOMP = "stomp";
+    public static final String TRANSPORT_GLOBAL = "global";
+
+    private static final int MAX_TYPE_TAGS = 64;
+    private static final Pattern STATION_TOPIC = Pattern.compile("^/topic/station/(\\d+)$");
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, AtomicInteger> activeSessions = new ConcurrentHashMap<>();
+    private final Map<Integer, StationCounters> stationCounters = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Integer>> stompStationSubscriptions = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        // Message types come from clients; cap the tag space so a misbehaving client cannot explode the registry.
+        meterRegistry.config()
+                .meterFilter(MeterFilter.maximumAllowableTags("websocket.messages.in", "type", MAX_TYPE_TAGS, MeterFilter.deny()))
+                .meterFilter(MeterFilter.maximumAllowableTags("websocket.messages.out", "type", MAX_TYPE_TAGS, MeterFilter.deny()));
+        for (String transport : List.of(TRANSPORT_STATION, TRANSPORT_STOMP, TRANSPORT_GLOBAL)) {
+            Gauge.builder("websocket.sessions.active", sessionCounter(transport), AtomicInteger::get)
+                    .tag("transport", transport)
+                    .register(meterRegistry);
+        }
+    }
+
+    public void sessionOpened(String transport, Integer stationId) {
+        sessionCounter(transport).incrementAndGet();
+        if (stationId != null) {
+            counters(stationId).sessions.incrementAndGet();
+        }
+    }
+
+    public void sessionClosed(String transport, Integer stationId, CloseStatus status) {
+        sessionCounter(transport).decrementAndGet();
+        if (stationId != null) {
+            leaveStation(stationId);
+        }
+        Counter.builder("websocket.disconnects")
+                .tag("transport", transport)
+                .tag("code", status != null ? String.valueOf(status.getCode()) : "unknown")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void messageIn(String transport, Integer stationId, String type) {
+        Counter.builder("websocket.messages.in")
+                .tag("transport", transport)
+                .tag("type", type != null ? type : "unknown")
+                .register(meterRegistry)
+                .increment();
+        if (stationId != null) {
+            counters(stationId).messagesIn.increment();
+        }
+    }
+
+    public void messageOut(String channel, Integer stationId, Object data, int recipients, long bytes) {
+        Counter.builder("websocket.messages.out")
+                .tag("channel", channel)
+                .tag("type", typeOf(data))
+                .register(meterRegistry)
+                .increment(recipients);
+        if (bytes > 0) {
+            DistributionSummary.builder("websocket.bytes.out")
+                    .baseUnit("bytes")
+                    .tag("channel", channel)
+                    .register(meterRegistry)
+                    .record(bytes);
+        }
+        if (stationId != null) {
+            StationCounters station = counters(stationId);
+            station.messagesOut.add(recipients);
+            station.bytesOut.add(bytes);
+        }
+    }
+
+    public void stompFrameOut(Integer stationId, long bytes) {
+        DistributionSummary.builder("websocket.bytes.out")
+                .baseUnit("bytes")
+                .tag("channel", TRANSPORT_STOMP)
+                .register(meterRegistry)
+                .record(bytes);
+        if (stationId != null) {
+            StationCounters station = counters(stationId);
+            station.messagesOut.increment();
+            station.bytesOut.add(bytes);
+        }
+    }
+
+    public void sessionTerminated(Integer stationId, String reason) {
+        Counter.builder("websocket.sessions.terminated")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        if (stationId != null) {
+            counters(stationId).terminatedSessions.increment();
+        }
+    }
+
+    public void frameDropped(Integer stationId, String reason) {
+        Counter.builder("websocket.frames.dropped")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        if (stationId != null) {
+            counters(stationId).droppedFrames.increment();
+        }
+    }
+
+    // Rooms nobody is connected to drop out of the per-station view.
+    @Scheduled(fixedDelayString = "${websocket.metrics.prune-interval-ms:60000}")
+    public void prune() {
+        stationCounters.entrySet().removeIf(entry -> entry.getValue().sessions.get() <= 0);
+    }
+
+    public List<StationSocketStats> getStationStats() {
+        return stationCounters.entrySet().stream()
+                .map(entry -> entry.getValue().toStats(entry.getKey()))
+                .sorted(Comparator.comparing(StationSocketStats::getBytesOut).reversed())
+                .toList();
+    }
+
+    public StationSocketStats getStationStats(Integer stationId) {
+        StationCounters station = stationCounters.get(stationId);
+        return station != null ? station.toStats(stationId) : null;
+    }
+
+    @EventListener
+    public void onStompConnected(SessionConnectedEvent event) {
+        sessionOpened(TRANSPORT_STOMP, null);
+    }
+
+    @EventListener
+    public void onStompDisconnect(SessionDisconnectEvent event) {
+        Map<String, Integer> subscriptions = stompStationSubscriptions.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::leaveStation);
+        }
+        sessionClosed(TRANSPORT_STOMP, null, event.getCloseStatus());
+    }
+
+    @EventListener
+    public void onStompSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        if (destination == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        Matcher matcher = STATION_TOPIC.matcher(destination);
+        if (matcher.matches()) {
+            Integer stationId = Integer.parseInt(matcher.group(1));
+            stompStationSubscriptions.computeIfAbsent(accessor.getSessionId(), id -> new ConcurrentHashMap<>())
+                    .put(accessor.getSubscriptionId(), stationId);
+            counters(stationId).sessions.incrementAndGet();
+        }
+    }
+
+    @EventListener
+    public void onStompUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        Map<String, Integer> subscriptions = stompStationSubscriptions.get(accessor.getSessionId());
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        Integer stationId = subscriptions.remove(accessor.getSubscriptionId());
+        if (stationId != null) {
+            leaveStation(stationId);
+        }
+    }
+
+    private AtomicInteger sessionCounter(String transport) {
+        return activeSessions.computeIfAbsent(transport, t -> new AtomicInteger());
+    }
+
+    private void leaveStation(Integer stationId) {
+        StationCounters station = stationCounters.get(stationId);
+        if (station != null) {
+            station.sessions.decrementAndGet();
+        }
+    }
+
+    private StationCounters counters(Integer stationId) {
+        return stationCounters.computeIfAbsent(stationId, id -> new StationCounters());
+    }
+
+    private String typeOf(Object data) {
+        Object type = null;
+        if (data instanceof JsonNode node) {
+            type = node.path("type").asText(null);
+        } else if (data instanceof Map<?, ?> map) {
+            type = map.get("type");
+        }
+        return type != null ? type.toString() : "unknown";
+    }
+
+    private static class StationCounters {
+        private final AtomicInteger sessions = new AtomicInteger();
+        private final LongAdder messagesIn = new LongAdder();
+        private final LongAdder messagesOut = new LongAdder();
+        private final LongAdder bytesOut = new LongAdder();
+        private final LongAdder droppedFrames = new LongAdder();
+        private final LongAdder terminatedSessions = new LongAdder();
+
+        StationSocketStats toStats(Integer stationId) {
+            return StationSocketStats.builder()
+                    .stationId(stationId)
+                    .sessions(sessions.get())
+                    .messagesIn(messagesIn.sum())
+                    .messagesOut(messagesOut.sum())
+                    .bytesOut(bytesOut.sum())
+                    .droppedFrames(droppedFrames.sum())
+                    .terminatedSessions(terminatedSessions.sum())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.plyst.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.plyst.config.WebSocketOutboundProperties;
+import com.plyst.config.WebSocketOutboundProperties.OverflowPolicy;
+import com.plyst.service.WebSocketMessageCodec.WireEncoding;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@SuppressWarnings("null")
+public class WebSocketOutbound {
+
+    private final WebSocketOutboundProperties properties;
+    private final WebSocketMessageCodec messageCodec;
+    private final MeterRegistry meterRegistry;
+    private final WebSocketMetrics metrics;
+
+    // The decorator's DROP strategy evicts the oldest buffered frames of any type, so it is never used:
+    // replaceable frames are coalesced before they reach the buffer and an overflowing buffer terminates the session.
+    public WebSocketSession decorate(WebSocketSession session) {
+        return new ConcurrentWebSocketSessionDecorator(
+                session, properties.getSendTimeLimitMs(), properties.getBufferSizeLimit(), OverflowStrategy.TERMINATE);
+    }
+
+    public WebSocketMessage<?> encode(Object data, WireEncoding encoding) {
+        try {
+            return messageCodec.encode(data, encoding);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize WebSocket message", e);
+            return null;
+        }
+    }
+
+    public void broadcast(String channel, Collection<WebSocketSession> sessions, Object data, boolean droppable) {
+        broadcast(channel, null, sessions, data, droppable);
+    }
+
+    public void broadcast(String channel, Integer stationId, Collection<WebSocketSession> sessions, Object data, boolean droppable) {
+        broadcast(channel, stationId, sessions, new OutboundFrame(data), droppable);
+    }
+
+    public void broadcast(String channel, Integer stationId, Collection<WebSocketSession> sessions, OutboundFrame frame, boolean droppable) {
+        if (sessions == null || sessions.isEmpty()) {
+            return;
+        }
+
+        // Encoded at most once per wire encoding present among the recipients.
+        Map<WireEncoding, WebSocketMessage<?>> encoded = new EnumMap<>(WireEncoding.class);
+        Timer serialization = meterRegistry.timer("websocket.broadcast.serialization", "channel", channel);
+
+        int delivered = 0;
+        long bytes = 0;
+        Timer.Sample write = Timer.start(meterRegistry);
+        for (WebSocketSession session : sessions) {
+            WireEncoding encoding = WebSocketMessageCodec.encodingOf(session);
+            WebSocketMessage<?> message = encoded.get(encoding);
+            if (message == null && !encoded.containsKey(encoding)) {
+                Timer.Sample sample = Timer.start(meterRegistry);
+                message = encode(frame, encoding);
+                sample.stop(serialization);
+                encoded.put(encoding, message);
+            }
+            if (message != null && send(session, stationId, message, droppable)) {
+                delivered++;
+                bytes += message.getPayloadLength();
+            }
+        }
+        write.stop(meterRegistry.timer("websocket.broadcast.write", "channel", channel));
+        metrics.messageOut(channel, stationId, frame.getPayload(), delivered, bytes);
+    }
+
+    private WebSocketMessage<?> encode(OutboundFrame frame, WireEncoding encoding) {
+        try {
+            return frame.message(encoding, messageCodec);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize WebSocket message", e);
+            return null;
+        }
+    }
+
+    public boolean convertAndSend(WebSocketSession session, Object data) {
+        if (session == null || !session.isOpen()) {
+            return false;
+        }
+        WebSocketMessage<?> message = encode(data, WebSocketMessageCodec.encodingOf(session));
+        boolean sent = message != null && send(session, null, message, false);
+        if (sent) {
+            metrics.messageOut("direct", null, data, 1, message.getPayloadLength());
+        }
+        return sent;
+    }
+
+    public boolean send(WebSocketSession session, WebSocketMessage<?> message) {
+        return send(session, message, false);
+    }
+
+    public boolean send(WebSocketSession session, WebSocketMessage<?> message, boolean droppable) {
+        return send(session, null, message, droppable);
+    }
+
+    private boolean send(WebSocketSession session, Integer stationId, WebSocketMessage<?> message, boolean droppable) {
+        if (session == null || !session.isOpen()) {
+            return false;
+        }
+        if (session instanceof ConcurrentWebSocketSessionDecorator decorator) {
+            meterRegistry.summary("websocket.send.buffer").record(decorator.getBufferSize());
+        }
+        // Only replaceable frames (playback heartbeats and updates) are skipped; the next one supersedes them.
+        if (droppable && isBackedUp(session)) {
+            log.debug("Coalesced replaceable frame for slow consumer - sessionId: {}", session.getId());
+            metrics.frameDropped(stationId, "coalesced");
+            return false;
+        }
+        Timer.Sample latency = Timer.start(meterRegistry);
+        try {
+            session.sendMessage(message);
+            return true;
+        } catch (SessionLimitExceededException e) {
+            log.warn("Disconnecting slow WebSocket consumer - sessionId: {}, reason: {}", session.getId(), e.getMessage());
+            metrics.sessionTerminated(stationId, "overflow");
+            closeQuietly(session, e.getStatus());
+        } catch (IOException e) {
+            log.debug("Failed to send message (connection closed) - sessionId: {}", session.getId());
+        } catch (Exception e) {
+            log.error("Failed to send message - sessionId: {}", session.getId(), e);
+        } finally {
+            latency.stop(meterRegistry.timer("websocket.send.latency"));
+        }
+        return false;
+    }
+
+    private boolean isBackedUp(WebSocketSession session) {
+        return properties.getOverflowPolicy() == OverflowPolicy.DROP_STALE
+                && session instanceof ConcurrentWebSocketSessionDecorator decorator
+                && decorator.getBufferSize() > 0;
+    }
+
+    private void closeQuietly(WebSocketSession session, CloseStatus status) {
+        try {
+            session.close(status);
+        } catch (IOException e) {
+            log.debug("Failed to close slow WebSocket session - sessionId: {}", session.getId());
+        }
+    }
+}
@@ -3,7 +3,10 @@ package com.plyst.service;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.plyst.config.OpenAIProperties;
+import com.plyst.config.SubtitleProperties;
 import com.plyst.dto.SubtitleDto.SubtitleSegment;
+import com.plyst.service.SubtitleJobScheduler.Pool;
+import com.plyst.service.SubtitleJobScheduler.Priority;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.ByteArrayResource;
@@ -17,6 +20,7 @@ import java.io.*;
 import java.nio.file.*;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -26,209 +30,266 @@ public class WhisperService {
     private final RestTemplate restTemplate;
     private final OpenAIProperties openAIProperties;
     private final ObjectMapper objectMapper;
+    private final SubtitleCache subtitleCache;
+    private final SubtitleProperties subtitleProperties;
+    private final SubtitleJobScheduler jobScheduler;
 
     private static final String WHISPER_API_URL = "https://api.openai.com/v1/audio/transcriptions";
     private static final String TRANSLATION_API_URL = "https://api.openai.com/v1/chat/completions";
     private static final String COOKIES_FILE = "/home/ubuntu/PLYST_1.0.2/backend/config/youtube_cookies.txt";
+    private static final int SAMPLE_RATE = 16000;
+    private static final long PIPELINE_EXIT_TIMEOUT_SECONDS = 30;
     
-    private final Map<String, List<SubtitleSegment>> subtitleCache = new ConcurrentHashMap<>();
-    private final Set<String> processingVideos = ConcurrentHashMap.newKeySet();
-    private final ExecutorService executorService = Executors.newFixedThreadPool(3);
+    private final Map<String, SubtitleJob> inFlight = new ConcurrentHashMap<>();
+
+    @FunctionalInterface
+    public interface PartialListener {
+        void onPartial(int chunkIndex, List<SubtitleSegment> segments);
+    }
 
     public CompletableFuture<List<SubtitleSegment>> getSubtitles(String videoId) {
-        if (subtitleCache.containsKey(videoId)) {
+        return getSubtitles(videoId, null, Priority.REQUESTED);
+    }
+
+    public CompletableFuture<List<SubtitleSegment>> getSubtitles(String videoId, PartialListener listener, Priority priority) {
+        List<SubtitleSegment> cached = subtitleCache.get(videoId);
+        if (cached != null) {
             log.info("캐시된 자막 반환: {}", videoId);
-            return CompletableFuture.completedFuture(subtitleCache.get(videoId));
+            return CompletableFuture.completedFuture(cached);
         }
         
-        if (processingVideos.contains(videoId)) {
-            log.info("자막 처리 중: {}", videoId);
-            return CompletableFuture.completedFuture(Collections.emptyList());
+        // Every concurrent request for the same video attaches to one job instead of starting its own.
+        SubtitleJob job = new SubtitleJob(jobScheduler.ticket(videoId, priority));
+        SubtitleJob existing = inFlight.putIfAbsent(videoId, job);
+        if (existing != null) {
+            log.info("자막 처리 중, 진행 중인 작업에 합류: {}", videoId);
+            jobScheduler.promote(existing.ticket, priority);
+            existing.attach(listener);
+            return existing.future;
         }
-        
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                return processVideoSubtitles(videoId);
-            } catch (Exception e) {
-                log.error("자막 생성 실패: {}", e.getMessage());
-                return Collections.emptyList();
-            }
-        }, executorService);
+
+        // A job that finished between the first lookup and putIfAbsent has already filled the memory tier.
+        cached = subtitleCache.peek(videoId);
+        if (cached != null) {
+            inFlight.remove(videoId, job);
+            job.future.complete(cached);
+            return job.future;
+        }
+
+        job.attach(listener);
+        jobScheduler.submit(job.ticket, Pool.IO, () -> processVideoSubtitles(videoId, job))
+            .thenCompose(segments -> segments)
+            .whenComplete((segments, ex) -> {
+                inFlight.remove(videoId, job);
+                job.finish();
+                jobScheduler.complete(job.ticket, ex == null && !segments.isEmpty());
+                if (ex != null || segments.isEmpty()) {
+                    subtitleCache.discardPendingPlays(videoId);
+                }
+                if (ex != null) {
+                    log.error("자막 생성 실패: {}", ex.getMessage());
+                    job.future.complete(Collections.emptyList());
+                } else {
+                    job.future.complete(segments);
+                }
+            });
+        return job.future;
     }
 
-    private List<SubtitleSegment> processVideoSubtitles(String videoId) {
-        processingVideos.add(videoId);
-        Path audioFile = null;
+    // Chunks are transcribed as soon as their window of audio has been decoded, so the opening is ready first.
+    // The job deadline starts once an IO thread picks the job up; time spent queued is reported by subtitle.jobs.wait.
+    private CompletableFuture<List<SubtitleSegment>> processVideoSubtitles(String videoId, SubtitleJob job) {
+        log.info("자막 생성 시작: {}", videoId);
+        job.failed.orTimeout(subtitleProperties.getScheduler().getJobTimeoutMs(), TimeUnit.MILLISECONDS);
         
-        try {
-            log.info("자막 생성 시작: {}", videoId);
-            
-            audioFile = downloadYoutubeAudio(videoId);
-            if (audioFile == null) {
-                log.error("오디오 다운로드 실패: {}", videoId);
-                return Collections.emptyList();
-            }
-            
-            List<SubtitleSegment> segments = transcribeAudio(audioFile);
-            if (segments.isEmpty()) {
-                log.error("전사 실패: {}", videoId);
-                return Collections.emptyList();
-            }
-            
-            List<SubtitleSegment> translatedSegments = translateSegments(segments);
-            subtitleCache.put(videoId, translatedSegments);
-            
-            log.info("자막 생성 완료: {} - {}개 세그먼트", videoId, translatedSegments.size());
-            return translatedSegments;
-            
-        } finally {
-            processingVideos.remove(videoId);
-            if (audioFile != null) {
-                try {
-                    Files.deleteIfExists(audioFile);
-                    Files.deleteIfExists(audioFile.getParent());
-                } catch (IOException e) {
-                    log.warn("임시 파일 삭제 실패: {}", audioFile);
+        List<CompletableFuture<List<SubtitleSegment>>> chunks = new ArrayList<>();
+        boolean streamed = streamAudioChunks(videoId, job, chunk -> {
+            CompletableFuture<List<SubtitleSegment>> transcribed = jobScheduler.submit(job.ticket, Pool.API, () -> transcribeChunk(chunk))
+                .thenCompose(segments -> translateSegments(segments, job))
+                .thenApply(translated -> {
+                    if (!translated.isEmpty()) {
+                        job.publish(chunk.index(), translated);
+                    }
+                    return translated;
+                });
+            transcribed.whenComplete((segments, ex) -> {
+                if (ex != null) {
+                    job.failed.completeExceptionally(ex);
                 }
-            }
+            });
+            chunks.add(transcribed);
+        });
+        if (job.failed.isDone()) {
+            return job.failed;
         }
+        if (!streamed || chunks.isEmpty()) {
+            log.error("오디오 스트리밍 실패: {}", videoId);
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        
+        // One lost chunk would leave a hole in the stitched track, so the first failure fails the whole job.
+        return CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new))
+            .thenApply(done -> stitch(videoId, chunks))
+            .applyToEither(job.failed, segments -> segments);
     }
 
-    private Path downloadYoutubeAudio(String videoId) {
+    private List<SubtitleSegment> transcribeChunk(AudioChunker.Chunk chunk) {
+        return transcribeAudio(chunk.wav(), "chunk_" + chunk.index() + ".wav").stream()
+            .map(segment -> segment.toBuilder()
+                .startTime(segment.getStartTime() + chunk.start())
+                .endTime(segment.getEndTime() + chunk.start())
+                .build())
+            .filter(segment -> chunk.owns(segment.getStartTime()))
+            .toList();
+    }
+
+    private List<SubtitleSegment> stitch(String videoId, List<CompletableFuture<List<SubtitleSegment>>> chunks) {
+        List<SubtitleSegment> segments = chunks.stream()
+            .flatMap(chunk -> chunk.join().stream())
+            .sorted(Comparator.comparingDouble(SubtitleSegment::getStartTime))
+            .toList();
+        if (segments.isEmpty()) {
+            log.error("전사 실패: {}", videoId);
+            return segments;
+        }
+        if (job.degraded) {
+            // Untranslated batches would otherwise be served from subtitle_tracks for good; the next request retries.
+            log.warn("번역 일부 실패, 자막 저장 생략: {}", videoId);
+            subtitleCache.discardPendingPlays(videoId);
+            return segments;
+        }
+        
+        subtitleCache.put(videoId, segments);
+        log.info("자막 생성 완료: {} - {}개 청크, {}개 세그먼트", videoId, chunks.size(), segments.size());
+        return segments;
+    }
+
+    // yt-dlp writes the source audio to ffmpeg's stdin; ffmpeg emits 16 kHz mono PCM that AudioChunker cuts into
+    // overlapping WAV windows. The job keeps the processes so a timeout can kill them while read() is blocked.
+    private boolean streamAudioChunks(String videoId, SubtitleJob job, Consumer<AudioChunker.Chunk> onChunk) {
+        SubtitleProperties.Transcription transcription = subtitleProperties.getTranscription();
+        AudioChunker chunker = new AudioChunker(SAMPLE_RATE, transcription.getChunkSeconds(), transcription.getOverlapSeconds(), onChunk);
+        
+        List<Process> pipeline;
         try {
-            String url = "https://www.youtube.com/watch?v=" + videoId;
-            Path tempDir = Files.createTempDirectory("plyst_audio_");
-            Path outputTemplate = tempDir.resolve(videoId + ".%(ext)s");
-            
-            log.info("오디오 다운로드 시작: {} -> {}", videoId, tempDir);
-            
-            List<String> command = new ArrayList<>();
-            command.add("/usr/local/bin/yt-dlp");
-            command.add("-f");
-            command.add("ba[ext=m4a][filesize<25M]/ba[ext=webm][filesize<25M]/ba[filesize<25M]/ba");
-            command.add("-o");
-            command.add(outputTemplate.toString());
-            command.add("--no-playlist");
-            command.add("--concurrent-fragments");
-            command.add("8");
-            command.add("--buffer-size");
-            command.add("16K");
-            command.add("--no-warnings");
-            command.add("--no-part");
-            
-            Path cookiesPath = Paths.get(COOKIES_FILE);
-            if (Files.exists(cookiesPath)) {
-                command.add("--cookies");
-                command.add(COOKIES_FILE);
-                log.info("YouTube 쿠키 파일 사용: {}", COOKIES_FILE);
-            }
-            
-            command.add(url);
-            
-            ProcessBuilder pb = new ProcessBuilder(command);
-            
-            Map<String, String> env = pb.environment();
-            String currentPath = env.getOrDefault("PATH", "");
-            env.put("PATH", "/home/ubuntu/.deno/bin:" + currentPath);
-            
-            pb.redirectErrorStream(true);
-            Process process = pb.start();
-            
-            StringBuilder output = new StringBuilder();
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    output.append(line).append("\n");
-                    log.info("yt-dlp: {}", line);
+            pipeline = ProcessBuilder.startPipeline(List.of(downloadCommand(videoId), transcodeCommand()));
+        } catch (IOException e) {
+            log.error("오디오 파이프라인 시작 실패: {}", e.getMessage());
+            return false;
+        }
+        if (!job.track(pipeline)) {
+            log.info("자막 작업 중단, 오디오 스트리밍 종료: {}", videoId);
+            return false;
+        }
+        Process download = pipeline.get(0);
+        Process transcode = pipeline.get(1);
+        Thread.ofVirtual().name("yt-dlp-" + videoId).start(() -> logOutput(download));
+        
+        try (InputStream pcm = transcode.getInputStream()) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = pcm.read(buffer)) != -1) {
+                if (job.isAborted()) {
+                    log.info("자막 작업 중단, 오디오 스트리밍 종료: {}", videoId);
+                    return false;
                 }
+                chunker.accept(buffer, 0, read);
             }
-            
-            int exitCode = process.waitFor();
-            if (exitCode != 0) {
-                log.error("yt-dlp 실패: exit code {}, output: {}", exitCode, output);
-                return null;
+            if (job.isAborted()) {
+                return false;
             }
+            chunker.finish();
             
-            try (var files = Files.list(tempDir)) {
-                Optional<Path> audioFile = files
-                    .filter(f -> {
-                        String name = f.getFileName().toString().toLowerCase();
-                        return name.contains(videoId.toLowerCase()) && 
-                               (name.endsWith(".mp3") || name.endsWith(".m4a") || name.endsWith(".webm") || name.endsWith(".opus"));
-                    })
-                    .findFirst();
-                
-                if (audioFile.isPresent()) {
-                    log.info("오디오 파일 찾음: {}", audioFile.get());
-                    Path compressed = compressAudio(audioFile.get(), tempDir, videoId);
-                    return compressed != null ? compressed : audioFile.get();
-                }
+            if (!download.waitFor(PIPELINE_EXIT_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                    || !transcode.waitFor(PIPELINE_EXIT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.error("오디오 파이프라인 종료 대기 시간 초과: {}", videoId);
+                return false;
             }
+            if (download.exitValue() != 0 || transcode.exitValue() != 0) {
+                log.error("오디오 파이프라인 실패: {} - yt-dlp exit {}, ffmpeg exit {}", videoId, download.exitValue(), transcode.exitValue());
+                return false;
+            }
+            return true;
             
-            log.error("오디오 파일을 찾을 수 없음: {}", tempDir);
-            return null;
-            
-        } catch (Exception e) {
-            log.error("오디오 다운로드 오류: {}", e.getMessage(), e);
-            return null;
+        } catch (IOException e) {
+            if (job.isAborted()) {
+                log.info("자막 작업 중단, 오디오 스트리밍 종료: {}", videoId);
+            } else {
+                log.error("오디오 스트리밍 오류: {}", e.getMessage(), e);
+            }
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            pipeline.forEach(Process::destroyForcibly);
         }
     }
 
-    private Path compressAudio(Path inputFile, Path tempDir, String videoId) {
-        try {
-            Path outputFile = tempDir.resolve(videoId + "_compressed.mp3");
-            
-            List<String> command = List.of(
-                "/usr/bin/ffmpeg",
-                "-i", inputFile.toString(),
-                "-ar", "16000",
-                "-ac", "1",
-                "-b:a", "32k",
-                "-y",
-                outputFile.toString()
-            );
-            
-            ProcessBuilder pb = new ProcessBuilder(command);
-            pb.redirectErrorStream(true);
-            Process process = pb.start();
-            
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-                while (reader.readLine() != null) {}
-            }
-            
-            int exitCode = process.waitFor();
-            if (exitCode == 0 && Files.exists(outputFile)) {
-                long originalSize = Files.size(inputFile);
-                long compressedSize = Files.size(outputFile);
-                log.info("오디오 압축 완료: {}KB -> {}KB ({}% 감소)", 
-                    originalSize / 1024, compressedSize / 1024, 
-                    100 - (compressedSize * 100 / originalSize));
-                Files.deleteIfExists(inputFile);
-                return outputFile;
+    private ProcessBuilder downloadCommand(String videoId) {
+        List<String> command = new ArrayList<>();
+        command.add("/usr/local/bin/yt-dlp");
+        command.add("-f");
+        // WebM/Opus demuxes from a pipe without seeking, so it is preferred over m4a here.
+        command.add("ba[ext=webm]/ba[ext=m4a]/ba");
+        command.add("-o");
+        command.add("-");
+        command.add("--no-playlist");
+        command.add("--concurrent-fragments");
+        command.add("8");
+        command.add("--buffer-size");
+        command.add("16K");
+        command.add("--no-warnings");
+        command.add("--quiet");
+        
+        Path cookiesPath = Paths.get(COOKIES_FILE);
+        if (Files.exists(cookiesPath)) {
+            command.add("--cookies");
+            command.add(COOKIES_FILE);
+            log.info("YouTube 쿠키 파일 사용: {}", COOKIES_FILE);
+        }
+        
+        command.add("https://www.youtube.com/watch?v=" + videoId);
+        
+        ProcessBuilder pb = new ProcessBuilder(command);
+        Map<String, String> env = pb.environment();
+        String currentPath = env.getOrDefault("PATH", "");
+        env.put("PATH", "/home/ubuntu/.deno/bin:" + currentPath);
+        return pb;
+    }
+
+    private ProcessBuilder transcodeCommand() {
+        return new ProcessBuilder(
+            "/usr/bin/ffmpeg",
+            "-v", "error",
+            "-i", "pipe:0",
+            "-ac", "1",
+            "-ar", String.valueOf(SAMPLE_RATE),
+            "-f", "s16le",
+            "pipe:1"
+        ).redirectError(ProcessBuilder.Redirect.DISCARD);
+    }
+
+    private void logOutput(Process process) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getErrorStream()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                log.info("yt-dlp: {}", line);
             }
-            
-            log.warn("ffmpeg 압축 실패, 원본 사용");
-            return null;
-        } catch (Exception e) {
-            log.warn("오디오 압축 오류: {}", e.getMessage());
-            return null;
+        } catch (IOException e) {
+            log.debug("yt-dlp 로그 읽기 종료: {}", e.getMessage());
         }
     }
 
-    private List<SubtitleSegment> transcribeAudio(Path audioFile) {
+    // Failures throw instead of returning an empty list, which would be indistinguishable from a silent chunk.
+    private List<SubtitleSegment> transcribeAudio(byte[] audioBytes, String filename) {
+        String apiKey = openAIProperties.getApiKey();
+        if (apiKey == null || apiKey.isEmpty()) {
+            log.error("OpenAI API 키가 설정되지 않았습니다.");
+            throw new IllegalStateException("OpenAI API 키가 설정되지 않았습니다.");
+        }
+        
         try {
-            String apiKey = openAIProperties.getApiKey();
-            if (apiKey == null || apiKey.isEmpty()) {
-                log.error("OpenAI API 키가 설정되지 않았습니다.");
-                return Collections.emptyList();
-            }
-            
-            byte[] audioBytes = Files.readAllBytes(audioFile);
-            
-            if (audioBytes.length > 25 * 1024 * 1024) {
-                log.warn("오디오 파일이 너무 큽니다: {} bytes", audioBytes.length);
-            }
-            
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.MULTIPART_FORM_DATA);
             headers.setBearerAuth(apiKey);
@@ -238,7 +299,7 @@ public class WhisperService {
             ByteArrayResource fileResource = new ByteArrayResource(audioBytes) {
                 @Override
                 public String getFilename() {
-                    return audioFile.getFileName().toString();
+                    return filename;
                 }
             };
             body.add("file", fileResource);
@@ -258,8 +319,8 @@ public class WhisperService {
             return parseWhisperResponse(response.getBody());
             
         } catch (Exception e) {
-            log.error("Whisper API 호출 오류: {}", e.getMessage());
-            return Collections.emptyList();
+            log.error("Whisper API 호출 오류: {} - {}", filename, e.getMessage());
+            throw new IllegalStateException("Whisper API 호출 오류: " + filename, e);
         }
     }
 
@@ -290,28 +351,30 @@ public class WhisperService {
             }
             
         } catch (Exception e) {
-            log.error("Whisper 응답 파싱 오류: {}", e.getMessage());
+            throw new IllegalStateException("Whisper 응답 파싱 오류", e);
         }
         
         return segments;
     }
 
-    private List<SubtitleSegment> translateSegments(List<SubtitleSegment> segments) {
-        if (segments.isEmpty()) return segments;
+    // Batches run as API tasks of the same job. A batch that fails or misses its deadline keeps the original text
+    // and marks the job degraded so the track is served but not stored.
+    private CompletableFuture<List<SubtitleSegment>> translateSegments(List<SubtitleSegment> segments, SubtitleJob job) {
+        if (segments.isEmpty()) return CompletableFuture.completedFuture(segments);
         
         String language = segments.get(0).getOriginalLanguage();
         if ("korean".equalsIgnoreCase(language) || "ko".equalsIgnoreCase(language)) {
-            return segments.stream()
+            return CompletableFuture.completedFuture(segments.stream()
                 .map(s -> s.toBuilder().translatedText(s.getText()).build())
-                .toList();
+                .toList());
         }
         
         if (!"english".equalsIgnoreCase(language) && !"japanese".equalsIgnoreCase(language) 
             && !"en".equalsIgnoreCase(language) && !"ja".equalsIgnoreCase(language)) {
             log.info("지원하지 않는 언어: {} - 원문 유지", language);
-            return segments.stream()
+            return CompletableFuture.completedFuture(segments.stream()
                 .map(s -> s.toBuilder().translatedText(s.getText()).build())
-                .toList();
+                .toList());
         }
         
         int batchSize = 30;
@@ -321,35 +384,61 @@ public class WhisperService {
         }
         
         String lang = language;
+        long timeoutMs = subtitleProperties.getScheduler().getTranslationTimeoutMs();
         List<CompletableFuture<List<String>>> futures = batches.stream()
-            .map(batch -> CompletableFuture.supplyAsync(() -> translateBatch(batch, lang), executorService))
+            .map(batch -> {
+                List<String> originals = batch.stream().map(SubtitleSegment::getText).toList();
+                return translateWithDeadline(job, batch, lang, timeoutMs)
+                    .exceptionally(ex -> {
+                        log.warn("번역 배치 실패, 원문 유지: {}", ex.getMessage());
+                        job.degraded = true;
+                        return originals;
+                    });
+            })
             .toList();
         
-        List<SubtitleSegment> translatedSegments = new ArrayList<>();
-        for (int i = 0; i < batches.size(); i++) {
-            List<SubtitleSegment> batch = batches.get(i);
-            List<String> translations;
-            try {
-                translations = futures.get(i).get(30, TimeUnit.SECONDS);
-            } catch (Exception e) {
-                translations = batch.stream().map(SubtitleSegment::getText).toList();
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).thenApply(done -> {
+            List<SubtitleSegment> translatedSegments = new ArrayList<>();
+            for (int i = 0; i < batches.size(); i++) {
+                List<SubtitleSegment> batch = batches.get(i);
+                List<String> translations = futures.get(i).join();
+                if (translations.size() < batch.size()) {
+                    job.degraded = true;
+                }
+                for (int j = 0; j < batch.size(); j++) {
+                    SubtitleSegment original = batch.get(j);
+                    String translated = j < translations.size() ? translations.get(j) : original.getText();
+                    translatedSegments.add(original.toBuilder().translatedText(translated).build());
+                }
             }
-            for (int j = 0; j < batch.size(); j++) {
-                SubtitleSegment original = batch.get(j);
-                String translated = j < translations.size() ? translations.get(j) : original.getText();
-                translatedSegments.add(original.toBuilder().translatedText(translated).build());
+            return translatedSegments;
+        });
+    }
+
+    // The deadline is armed when the batch gets an API thread, so waiting behind other jobs' transcriptions
+    // does not count against it.
+    private CompletableFuture<List<String>> translateWithDeadline(SubtitleJob job, List<SubtitleSegment> batch,
+                                                                  String language, long timeoutMs) {
+        CompletableFuture<List<String>> translated = new CompletableFuture<>();
+        jobScheduler.submit(job.ticket, Pool.API, () -> {
+            translated.orTimeout(timeoutMs, TimeUnit.MILLISECONDS);
+            return translateBatch(batch, language);
+        }).whenComplete((translations, ex) -> {
+            if (ex != null) {
+                translated.completeExceptionally(ex);
+            } else {
+                translated.complete(translations);
             }
-        }
-        
-        return translatedSegments;
+        });
+        return translated;
     }
 
     private List<String> translateBatch(List<SubtitleSegment> segments, String sourceLanguage) {
+        String apiKey = openAIProperties.getApiKey();
+        if (apiKey == null || apiKey.isEmpty()) {
+            throw new IllegalStateException("OpenAI API 키가 설정되지 않았습니다.");
+        }
         try {
-            String apiKey = openAIProperties.getApiKey();
-            if (apiKey == null || apiKey.isEmpty()) {
-                return segments.stream().map(SubtitleSegment::getText).toList();
-            }
             
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
@@ -404,7 +493,7 @@ public class WhisperService {
             
         } catch (Exception e) {
             log.error("번역 오류: {}", e.getMessage());
-            return segments.stream().map(SubtitleSegment::getText).toList();
+            throw new IllegalStateException("번역 오류", e);
         }
     }
 
@@ -431,19 +520,81 @@ public class WhisperService {
         return null;
     }
 
-    public boolean hasSubtitles(String videoId) {
-        return subtitleCache.containsKey(videoId);
-    }
-
     public boolean isProcessing(String videoId) {
-        return processingVideos.contains(videoId);
+        return inFlight.containsKey(videoId);
     }
 
     public void clearCache(String videoId) {
-        subtitleCache.remove(videoId);
+        subtitleCache.evict(videoId);
     }
     
     public List<SubtitleSegment> getCachedSubtitles(String videoId) {
-        return subtitleCache.getOrDefault(videoId, Collections.emptyList());
+        List<SubtitleSegment> segments = subtitleCache.get(videoId);
+        return segments != null ? segments : Collections.emptyList();
+    }
+
+    public void recordPlay(String videoId) {
+        subtitleCache.recordPlay(videoId);
+    }
+
+    // Late joiners get every chunk already published before receiving the rest live.
+    private static class SubtitleJob {
+        private final SubtitleJobScheduler.Ticket ticket;
+        private final CompletableFuture<List<SubtitleSegment>> future = new CompletableFuture<>();
+        private final CompletableFuture<List<SubtitleSegment>> failed = new CompletableFuture<>();
+        private final Map<Integer, List<SubtitleSegment>> published = new TreeMap<>();
+        private final List<PartialListener> listeners = new ArrayList<>();
+        private List<Process> processes = List.of();
+        private volatile boolean destroyed;
+        private volatile boolean degraded;
+
+        SubtitleJob(SubtitleJobScheduler.Ticket ticket) {
+            this.ticket = ticket;
+            failed.whenComplete((segments, ex) -> destroyPipeline());
+        }
+
+        boolean isAborted() {
+            return destroyed || future.isDone() || failed.isDone();
+        }
+
+        // Returns false once the job has ended, in which case the caller's processes are already killed.
+        synchronized boolean track(List<Process> pipeline) {
+            processes = pipeline;
+            if (isAborted()) {
+                processes.forEach(Process::destroyForcibly);
+                return false;
+            }
+            return true;
+        }
+
+        // Releases the deadline timer and kills a pipeline that is still running.
+        void finish() {
+            failed.cancel(false);
+            destroyPipeline();
+        }
+
+        synchronized void destroyPipeline() {
+            destroyed = true;
+            processes.forEach(Process::destroyForcibly);
+        }
+
+        synchronized void attach(PartialListener listener) {
+            if (listener == null) {
+                return;
+            }
+            published.forEach(listener::onPartial);
+            listeners.add(listener);
+        }
+
+        synchronized void publish(int chunkIndex, List<SubtitleSegment> segments) {
+            published.put(chunkIndex, segments);
+            for (PartialListener listener : listeners) {
+                try {
+                    listener.onPartial(chunkIndex, segments);
+                } catch (Exception e) {
+                    log.warn("부분 자막 전달 실패: chunk {}", chunkIndex, e);
+                }
+            }
+        }
     }
 }
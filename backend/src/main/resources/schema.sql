@@ -260,6 +260,30 @@ CREATE TABLE `station_bans` (
     CONSTRAINT `FK_users_TO_station_bans` FOREIGN KEY (`user_id`) REFERENCES `users` (`id`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
+CREATE TABLE `station_snapshots` (
+    `station_id`       INT          NOT NULL,
+    `video_id`         VARCHAR(255) NULL,
+    `volume`           INT          NULL,
+    `subtitle_enabled` TINYINT(1)   NOT NULL,
+    `queue_seq`        BIGINT       NOT NULL,
+    `queue_json`       LONGTEXT     NULL,
+    `updated_at`       DATETIME(3)  NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    PRIMARY KEY (`station_id`),
+    CONSTRAINT `FK_stations_TO_station_snapshots` FOREIGN KEY (`station_id`) REFERENCES `stations` (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE `subtitle_tracks` (
+    `video_id`          VARCHAR(32)  NOT NULL,
+    `original_language` VARCHAR(32)  NULL,
+    `segment_count`     INT          NOT NULL,
+    `segments_gz`       LONGBLOB     NOT NULL,
+    `play_count`        BIGINT       NOT NULL DEFAULT 0,
+    `created_at`        DATETIME(3)  NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    `last_played_at`    DATETIME(3)  NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    PRIMARY KEY (`video_id`),
+    INDEX `IDX_subtitle_tracks_play_count` (`play_count`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
 -- 알림 테이블
 CREATE TABLE `notifications` (
     `id`           BIGINT       NOT NULL AUTO_INCREMENT,
@@ -0,0 +1,85 @@
+package com.plyst.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AudioChunkerTest {
+
+    private static final int SAMPLE_RATE = 10;
+    private static final int BYTES_PER_SECOND = SAMPLE_RATE * 2;
+    private static final double CHUNK_SECONDS = 3;
+    private static final double OVERLAP_SECONDS = 1;
+
+    @Test
+    void everyInstantIsOwnedByExactlyOneChunk() {
+        for (int seconds = 1; seconds <= 12; seconds++) {
+            List<AudioChunker.Chunk> chunks = chunk(pcm(seconds), 7);
+
+            for (double time = 0; time < seconds; time += 0.05) {
+                double instant = time;
+                long owners = chunks.stream().filter(chunk -> chunk.owns(instant)).count();
+                assertEquals(1L, owners, seconds + "s stream at " + instant);
+            }
+        }
+    }
+
+    @Test
+    void streamsThatEndOnAWindowBoundaryStillCoverTheTail() {
+        // 3s + 2s + 2s: the last full window ends exactly at the end of the stream.
+        List<AudioChunker.Chunk> chunks = chunk(pcm(7), 13);
+
+        AudioChunker.Chunk last = chunks.get(chunks.size() - 1);
+        assertEquals(3, chunks.size());
+        assertEquals(4.0, last.start());
+        assertTrue(last.owns(6.9));
+    }
+
+    @Test
+    void chunksCarryTheirSliceOfTheStream() {
+        byte[] pcm = pcm(8);
+
+        List<AudioChunker.Chunk> chunks = chunk(pcm, 5);
+
+        assertEquals(List.of(0.0, 2.0, 4.0, 6.0), chunks.stream().map(AudioChunker.Chunk::start).toList());
+        for (AudioChunker.Chunk chunk : chunks) {
+            int from = (int) (chunk.start() * BYTES_PER_SECOND);
+            int to = Math.min(pcm.length, from + (int) (CHUNK_SECONDS * BYTES_PER_SECOND));
+            byte[] data = Arrays.copyOfRange(chunk.wav(), AudioChunker.WAV_HEADER_BYTES, chunk.wav().length);
+            assertArrayEquals(Arrays.copyOfRange(pcm, from, to), data, "chunk " + chunk.index());
+        }
+    }
+
+    @Test
+    void oneSamplePastAFullWindowReleasesIt() {
+        List<AudioChunker.Chunk> chunks = chunk(Arrays.copyOf(pcm(3), 3 * BYTES_PER_SECOND + 2), 64);
+
+        assertEquals(2, chunks.size());
+        assertEquals(2.5, chunks.get(0).ownedUntil());
+        assertTrue(chunks.get(1).owns(3.0));
+    }
+
+    private List<AudioChunker.Chunk> chunk(byte[] pcm, int sliceBytes) {
+        List<AudioChunker.Chunk> chunks = new ArrayList<>();
+        AudioChunker chunker = new AudioChunker(SAMPLE_RATE, CHUNK_SECONDS, OVERLAP_SECONDS, chunks::add);
+        for (int offset = 0; offset < pcm.length; offset += sliceBytes) {
+            chunker.accept(pcm, offset, Math.min(sliceBytes, pcm.length - offset));
+        }
+        chunker.finish();
+        return chunks;
+    }
+
+    private byte[] pcm(int seconds) {
+        byte[] pcm = new byte[seconds * BYTES_PER_SECOND];
+        for (int i = 0; i < pcm.length; i++) {
+            pcm[i] = (byte) i;
+        }
+        return pcm;
+    }
+}
@@ -0,0 +1,72 @@
+package com.plyst.service;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.plyst.config.StationChatProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StationChatHistoryTest {
+
+    private StationChatHistory history;
+
+    @BeforeEach
+    void setUp() {
+        StationChatProperties properties = new StationChatProperties();
+        properties.setHistorySize(3);
+        history = new StationChatHistory(properties);
+    }
+
+    @Test
+    void appendAssignsIncreasingSequenceNumbers() {
+        assertEquals(1, history.append(1, message("a")));
+        assertEquals(2, history.append(1, message("b")));
+        assertEquals(1, history.append(2, message("c")));
+        assertEquals(2, history.latestSeq(1));
+    }
+
+    @Test
+    void sinceReturnsOnlyNewerMessagesInOrder() {
+        history.append(1, message("a"));
+        history.append(1, message("b"));
+        history.append(1, message("c"));
+
+        assertEquals(List.of("b", "c"), texts(history.since(1, 1)));
+        assertTrue(history.since(1, 3).isEmpty());
+    }
+
+    @Test
+    void oldestMessagesAreOverwrittenOnceTheRingIsFull() {
+        for (String text : List.of("a", "b", "c", "d", "e")) {
+            history.append(1, message(text));
+        }
+
+        assertEquals(List.of("c", "d", "e"), texts(history.recent(1)));
+        assertEquals(List.of("c", "d", "e"), texts(history.since(1, 1)));
+        assertEquals(List.of("e"), texts(history.since(1, 4)));
+        assertEquals(5, history.latestSeq(1));
+    }
+
+    @Test
+    void unknownOrRemovedStationsHaveNoHistory() {
+        history.append(1, message("a"));
+        history.remove(1);
+
+        assertTrue(history.recent(1).isEmpty());
+        assertEquals(0, history.latestSeq(1));
+        assertTrue(history.since(9, 0).isEmpty());
+    }
+
+    private ObjectNode message(String text) {
+        return JsonNodeFactory.instance.objectNode().put("text", text);
+    }
+
+    private List<String> texts(List<ObjectNode> messages) {
+        return messages.stream().map(message -> message.get("text").asText()).toList();
+    }
+}
@@ -0,0 +1,50 @@
+package com.plyst.service;
+
+import com.plyst.service.StationChatPipeline.TokenBucket;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StationChatPipelineTest {
+
+    @Test
+    void burstIsAllowedUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(3, 1.0, 0);
+
+        assertTrue(bucket.tryConsume(0));
+        assertTrue(bucket.tryConsume(0));
+        assertTrue(bucket.tryConsume(0));
+        assertFalse(bucket.tryConsume(0));
+    }
+
+    @Test
+    void tokensRefillOverTime() {
+        TokenBucket bucket = new TokenBucket(2, 2.0, 0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+
+        assertFalse(bucket.tryConsume(100));
+        assertTrue(bucket.tryConsume(600));
+        assertFalse(bucket.tryConsume(600));
+    }
+
+    @Test
+    void refillNeverExceedsCapacity() {
+        TokenBucket bucket = new TokenBucket(2, 10.0, 0);
+
+        assertTrue(bucket.isFull(60_000));
+        assertTrue(bucket.tryConsume(60_000));
+        assertTrue(bucket.tryConsume(60_000));
+        assertFalse(bucket.tryConsume(60_000));
+    }
+
+    @Test
+    void bucketIsFullOnlyOnceFullyRefilled() {
+        TokenBucket bucket = new TokenBucket(2, 1.0, 0);
+        bucket.tryConsume(0);
+
+        assertFalse(bucket.isFull(500));
+        assertTrue(bucket.isFull(1000));
+    }
+}
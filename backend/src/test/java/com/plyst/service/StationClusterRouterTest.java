@@ -0,0 +1,94 @@
+package com.plyst.service;
+
+import com.plyst.config.ClusterProperties;
+import com.plyst.config.ClusterProperties.Node;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StationClusterRouterTest {
+
+    private static final int STATIONS = 3000;
+
+    @Test
+    void singleNodeDeploymentsOwnEveryStation() {
+        StationClusterRouter router = router("local");
+
+        assertNull(router.ownerOf(42));
+        assertTrue(router.isLocal(42));
+        assertFalse(router.isClustered());
+    }
+
+    @Test
+    void ownershipIsDeterministicAcrossRouters() {
+        StationClusterRouter first = router("a", "a", "b", "c");
+        StationClusterRouter second = router("b", "a", "b", "c");
+        assertTrue(first.isClustered());
+
+        for (int stationId = 1; stationId <= STATIONS; stationId++) {
+            String owner = first.ownerOf(stationId).getId();
+            assertEquals(owner, second.ownerOf(stationId).getId());
+            assertEquals("a".equals(owner), first.isLocal(stationId));
+            assertEquals("b".equals(owner), second.isLocal(stationId));
+        }
+    }
+
+    @Test
+    void virtualNodesSpreadStationsEvenly() {
+        StationClusterRouter router = router("a", "a", "b", "c");
+
+        Map<String, Integer> owned = owners(router);
+
+        assertEquals(3, owned.size());
+        owned.values().forEach(count -> assertTrue(count > STATIONS / 5, "owned " + count));
+    }
+
+    @Test
+    void addingANodeOnlyMovesStationsOntoIt() {
+        StationClusterRouter before = router("a", "a", "b", "c");
+        StationClusterRouter after = router("a", "a", "b", "c", "d");
+
+        int moved = 0;
+        for (int stationId = 1; stationId <= STATIONS; stationId++) {
+            String previous = before.ownerOf(stationId).getId();
+            String current = after.ownerOf(stationId).getId();
+            if (!previous.equals(current)) {
+                assertEquals("d", current);
+                moved++;
+            }
+        }
+        assertTrue(moved > 0);
+        assertFalse(moved > STATIONS / 2, "moved " + moved);
+    }
+
+    private Map<String, Integer> owners(StationClusterRouter router) {
+        Map<String, Integer> owned = new HashMap<>();
+        for (int stationId = 1; stationId <= STATIONS; stationId++) {
+            owned.merge(router.ownerOf(stationId).getId(), 1, Integer::sum);
+        }
+        return owned;
+    }
+
+    private StationClusterRouter router(String nodeId, String... nodeIds) {
+        ClusterProperties properties = new ClusterProperties();
+        properties.setNodeId(nodeId);
+        properties.setNodes(Arrays.stream(nodeIds).map(this::node).toList());
+        StationClusterRouter router = new StationClusterRouter(properties);
+        router.init();
+        return router;
+    }
+
+    private Node node(String id) {
+        Node node = new Node();
+        node.setId(id);
+        node.setUrl("ws://" + id + ":8080");
+        return node;
+    }
+}
@@ -0,0 +1,58 @@
+package com.plyst.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StationExecutorTest {
+
+    private StationExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new StationExecutor(new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void tasksOfAStationRunInSubmissionOrder() {
+        List<Integer> ran = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            int task = i;
+            executor.execute(1, () -> ran.add(task));
+        }
+
+        executor.call(1, () -> null);
+
+        assertEquals(100, ran.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, ran.get(i));
+        }
+    }
+
+    @Test
+    @Timeout(5)
+    void callFromTheSameStationRunsInline() {
+        String result = executor.call(1, () -> executor.call(1, () -> "inner"));
+
+        assertEquals("inner", result);
+    }
+
+    @Test
+    @Timeout(5)
+    void callIntoAnotherStationFromAMailboxFailsFast() {
+        assertThrows(IllegalStateException.class, () -> executor.call(1, () -> executor.call(2, () -> "other")));
+    }
+}
@@ -0,0 +1,123 @@
+package com.plyst.service;
+
+import com.plyst.dto.StationDto.QueueItem;
+import com.plyst.dto.StationDto.QueueOperation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StationQueueStoreTest {
+
+    private static final Integer STATION = 1;
+
+    private StationQueueStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new StationQueueStore();
+    }
+
+    @Test
+    void everyOperationAdvancesTheSequence() {
+        QueueOperation first = store.insert(STATION, item("a"), null, 7);
+        QueueOperation second = store.insert(STATION, item("b"), 0, 7);
+        QueueOperation removed = store.remove(STATION, "a");
+
+        assertEquals(1L, first.getSeq());
+        assertEquals(2L, second.getSeq());
+        assertEquals(3L, removed.getSeq());
+        assertEquals(3L, store.seq(STATION));
+        assertEquals(3L, store.snapshot(STATION).getSeq());
+    }
+
+    @Test
+    void replayingOperationsSinceASnapshotReproducesTheQueue() {
+        store.insert(STATION, item("a"), null, 7);
+        store.insert(STATION, item("b"), null, 7);
+        long seenSeq = store.seq(STATION);
+        List<String> client = ids(store.snapshot(STATION).getItems());
+
+        store.insert(STATION, item("c"), 0, 8);
+        store.move(STATION, "a", 2);
+        store.remove(STATION, "b");
+
+        List<QueueOperation> missed = store.operationsSince(STATION, seenSeq);
+        assertEquals(List.of(3L, 4L, 5L), missed.stream().map(QueueOperation::getSeq).toList());
+        for (QueueOperation operation : missed) {
+            apply(client, operation);
+        }
+        assertEquals(ids(store.snapshot(STATION).getItems()), client);
+        assertTrue(store.operationsSince(STATION, store.seq(STATION)).isEmpty());
+    }
+
+    @Test
+    void clientsBehindTheOperationLogMustResync() {
+        store.insert(STATION, item("first"), null, 7);
+        for (int i = 0; i < 100; i++) {
+            store.insert(STATION, item("x" + i), null, 7);
+            store.remove(STATION, "x" + i);
+        }
+
+        assertNull(store.operationsSince(STATION, 0));
+        assertNotNull(store.operationsSince(STATION, store.seq(STATION) - 10));
+    }
+
+    @Test
+    void restoredQueuesContinueFromTheirSequence() {
+        store.restore(STATION, 42, List.of(item("a"), item("b")));
+
+        QueueOperation next = store.insert(STATION, item("c"), null, 7);
+
+        assertEquals(43L, next.getSeq());
+        assertNull(store.operationsSince(STATION, 10));
+        assertEquals(List.of(next), store.operationsSince(STATION, 42));
+    }
+
+    @Test
+    void replaceNormalizesItemsLikeInsert() {
+        store.insert(STATION, item("kept"), null, 7);
+
+        QueueItem anonymous = QueueItem.builder().videoId("v-new").title("new").addedBy(99).build();
+        QueueItem empty = QueueItem.builder().id("empty").build();
+        QueueOperation replaced = store.replace(STATION, List.of(item("kept"), anonymous, empty), 8);
+
+        List<QueueItem> items = replaced.getItems();
+        assertEquals(2, items.size());
+        assertEquals("kept", items.get(0).getId());
+        assertEquals(7, items.get(0).getAddedBy());
+        assertNotNull(items.get(1).getId());
+        assertEquals(8, items.get(1).getAddedBy());
+        assertEquals(items, store.snapshot(STATION).getItems());
+    }
+
+    private QueueItem item(String id) {
+        return QueueItem.builder().id(id).videoId("v-" + id).title(id).build();
+    }
+
+    private List<String> ids(List<QueueItem> items) {
+        return new ArrayList<>(items.stream().map(QueueItem::getId).toList());
+    }
+
+    private void apply(List<String> client, QueueOperation operation) {
+        switch (operation.getOp()) {
+            case StationQueueStore.OP_INSERT -> client.add(operation.getIndex(), operation.getItem().getId());
+            case StationQueueStore.OP_REMOVE -> client.remove(operation.getItemId());
+            case StationQueueStore.OP_MOVE -> {
+                client.remove(operation.getItemId());
+                client.add(operation.getIndex(), operation.getItemId());
+            }
+            case StationQueueStore.OP_REPLACE -> {
+                client.clear();
+                client.addAll(ids(operation.getItems()));
+            }
+            default -> throw new IllegalStateException(operation.getOp());
+        }
+    }
+}
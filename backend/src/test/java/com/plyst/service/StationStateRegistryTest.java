@@ -0,0 +1,85 @@
+package com.plyst.service;
+
+import com.plyst.dto.StationDto.ParticipantInfo;
+import com.plyst.service.StationStateRegistry.Admission;
+import com.plyst.service.StationStateRegistry.StationState;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StationStateRegistryTest {
+
+    @Test
+    void reservationsCountAgainstCapacity() {
+        StationState state = stationWithHost(3);
+
+        assertEquals(Admission.RESERVED, state.reserve(2));
+        assertEquals(Admission.RESERVED, state.reserve(3));
+        assertEquals(Admission.FULL, state.reserve(4));
+        assertEquals(1, state.getParticipantCount());
+    }
+
+    @Test
+    void duplicateReservationsAreReportedInProgress() {
+        StationState state = stationWithHost(3);
+
+        assertEquals(Admission.RESERVED, state.reserve(2));
+        assertEquals(Admission.IN_PROGRESS, state.reserve(2));
+    }
+
+    @Test
+    void commitTurnsTheReservationIntoAParticipant() {
+        StationState state = stationWithHost(2);
+        long version = state.getRosterVersion();
+
+        state.reserve(2);
+        state.commit(participant(2, "MEMBER"));
+
+        assertTrue(state.isParticipant(2));
+        assertEquals(version + 1, state.getRosterVersion());
+        assertEquals(Admission.MEMBER, state.reserve(2));
+        assertEquals(Admission.FULL, state.reserve(3));
+    }
+
+    @Test
+    void releaseHandsTheSlotBackWithoutTouchingTheRoster() {
+        StationState state = stationWithHost(2);
+        long version = state.getRosterVersion();
+
+        state.reserve(2);
+        assertEquals(Admission.FULL, state.reserve(3));
+        state.release(2);
+
+        assertFalse(state.isParticipant(2));
+        assertEquals(version, state.getRosterVersion());
+        assertEquals(Admission.RESERVED, state.reserve(3));
+    }
+
+    @Test
+    void bannedUsersCannotReserve() {
+        StationState state = stationWithHost(5);
+        state.ban(2);
+
+        assertEquals(Admission.BANNED, state.reserve(2));
+
+        state.unban(2);
+        assertEquals(Admission.RESERVED, state.reserve(2));
+    }
+
+    private StationState stationWithHost(int maxParticipants) {
+        StationState state = new StationState(1, maxParticipants);
+        state.putParticipant(participant(1, "HOST"));
+        return state;
+    }
+
+    private ParticipantInfo participant(Integer id, String role) {
+        return ParticipantInfo.builder()
+                .id(id)
+                .nickname("user" + id)
+                .role(role)
+                .joinedAt("2024-01-01T00:00:0" + id)
+                .build();
+    }
+}
@@ -0,0 +1,160 @@
+package com.plyst.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.plyst.config.SubtitleProperties;
+import com.plyst.dto.SubtitleDto.SubtitleSegment;
+import com.plyst.entity.SubtitleTrack;
+import com.plyst.repository.SubtitleTrackRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SubtitleCacheTest {
+
+    private SubtitleTrackRepository repository;
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private SubtitleCache cache;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(SubtitleTrackRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        SubtitleProperties properties = new SubtitleProperties();
+        properties.getCache().setMaxSegments(6);
+        cache = new SubtitleCache(repository, jdbcTemplate, new ObjectMapper(), properties, meterRegistry);
+        cache.init();
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvictedFirst() {
+        cache.put("a", segments(2));
+        cache.put("b", segments(2));
+        cache.put("c", segments(2));
+        cache.get("a");
+
+        cache.put("d", segments(2));
+
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("a"));
+        assertNotNull(cache.get("c"));
+        assertNotNull(cache.get("d"));
+        assertEquals(3.0, gauge("subtitle.cache.entries"));
+        assertEquals(6.0, gauge("subtitle.cache.segments"));
+        assertEquals(1.0, evictions());
+    }
+
+    @Test
+    void replacingAnEntryOnlyCountsItsNewSegments() {
+        cache.put("a", segments(2));
+        cache.put("a", segments(4));
+
+        assertEquals(1.0, gauge("subtitle.cache.entries"));
+        assertEquals(4.0, gauge("subtitle.cache.segments"));
+        assertEquals(0.0, evictions());
+    }
+
+    @Test
+    void oversizedEntryIsKeptWhileEverythingElseMakesRoom() {
+        cache.put("a", segments(2));
+        cache.put("b", segments(2));
+
+        cache.put("big", segments(10));
+
+        assertEquals(1.0, gauge("subtitle.cache.entries"));
+        assertEquals(10.0, gauge("subtitle.cache.segments"));
+        assertEquals(2.0, evictions());
+        assertNotNull(cache.get("big"));
+    }
+
+    @Test
+    void playsRecordedBeforeTheRowExistsSeedItsPlayCount() {
+        cache.recordPlay("a");
+        cache.recordPlay("a");
+
+        cache.put("a", segments(1));
+
+        ArgumentCaptor<SubtitleTrack> saved = ArgumentCaptor.forClass(SubtitleTrack.class);
+        verify(repository).save(saved.capture());
+        assertEquals(2L, saved.getValue().getPlayCount());
+    }
+
+    @Test
+    void playsAreRequeuedWhenTheFlushFails() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new IllegalStateException("database down"))
+                .thenReturn(new int[]{1});
+        cache.recordPlay("a");
+        cache.recordPlay("a");
+        cache.recordPlay("a");
+
+        cache.flushPlays();
+        cache.flushPlays();
+
+        assertEquals(List.of(3L, 3L), flushedPlays(2));
+    }
+
+    @Test
+    void playsForAnUnwrittenRowWaitForPut() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{0});
+        cache.recordPlay("a");
+        cache.flushPlays();
+
+        cache.put("a", segments(1));
+
+        ArgumentCaptor<SubtitleTrack> saved = ArgumentCaptor.forClass(SubtitleTrack.class);
+        verify(repository).save(saved.capture());
+        assertEquals(1L, saved.getValue().getPlayCount());
+    }
+
+    @Test
+    void storeMissesAreRememberedUntilTheVideoIsPut() {
+        when(repository.findById(anyString())).thenReturn(Optional.empty());
+
+        assertNull(cache.get("a"));
+        assertNull(cache.get("a"));
+        verify(repository, times(1)).findById("a");
+
+        cache.put("a", segments(1));
+        assertNotNull(cache.get("a"));
+        assertEquals(1.0, meterRegistry.get("subtitle.cache.requests").tag("result", "hit").tag("tier", "memory").counter().count());
+    }
+
+    private List<SubtitleSegment> segments(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> SubtitleSegment.builder().startTime(i).endTime(i + 1).text("line " + i).build())
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> flushedPlays(int flushes) {
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(flushes)).batchUpdate(anyString(), rows.capture());
+        return rows.getAllValues().stream().map(batch -> (Long) batch.get(0)[0]).toList();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private double evictions() {
+        return meterRegistry.get("subtitle.cache.evictions").counter().count();
+    }
+}
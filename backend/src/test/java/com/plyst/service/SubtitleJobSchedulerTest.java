@@ -0,0 +1,149 @@
+package com.plyst.service;
+
+import com.plyst.config.SubtitleProperties;
+import com.plyst.service.SubtitleJobScheduler.Pool;
+import com.plyst.service.SubtitleJobScheduler.Priority;
+import com.plyst.service.SubtitleJobScheduler.Ticket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SubtitleJobSchedulerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SubtitleJobScheduler scheduler;
+    private CountDownLatch release;
+    private List<String> ran;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        SubtitleProperties properties = new SubtitleProperties();
+        properties.getScheduler().setIoThreads(1);
+        properties.getScheduler().setMaxQueuedJobs(2);
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new SubtitleJobScheduler(properties, meterRegistry);
+        scheduler.init();
+        ran = new CopyOnWriteArrayList<>();
+        release = new CountDownLatch(1);
+        occupyIoThread();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        scheduler.shutdown();
+    }
+
+    @Test
+    void queuedWorkRunsInPriorityOrder() {
+        CompletableFuture<String> prefetch = submit("prefetch", Priority.PREFETCH);
+        CompletableFuture<String> playing = submit("playing", Priority.PLAYING);
+
+        release.countDown();
+
+        CompletableFuture.allOf(prefetch, playing).join();
+        assertEquals(List.of("playing", "prefetch"), ran);
+    }
+
+    @Test
+    void aFullQueueEvictsTheNewestLowerPriorityJob() {
+        CompletableFuture<String> older = submit("older", Priority.PREFETCH);
+        CompletableFuture<String> newer = submit("newer", Priority.PREFETCH);
+
+        CompletableFuture<String> playing = submit("playing", Priority.PLAYING);
+
+        assertRejected(newer);
+        release.countDown();
+        CompletableFuture.allOf(older, playing).join();
+        assertEquals(List.of("playing", "older"), ran);
+        assertEquals(1.0, rejected("prefetch"));
+    }
+
+    @Test
+    void aFullQueueRejectsJobsThatCannotOutrankIt() {
+        submit("first", Priority.REQUESTED);
+        submit("second", Priority.REQUESTED);
+
+        CompletableFuture<String> requested = submit("requested", Priority.REQUESTED);
+        CompletableFuture<String> prefetch = submit("prefetch", Priority.PREFETCH);
+
+        assertRejected(requested);
+        assertRejected(prefetch);
+        assertEquals(1.0, rejected("requested"));
+        assertEquals(1.0, rejected("prefetch"));
+    }
+
+    @Test
+    void promotionMovesQueuedWorkAhead() {
+        Ticket ticket = scheduler.ticket("promoted", Priority.PREFETCH);
+        CompletableFuture<String> promoted = scheduler.submit(ticket, Pool.IO, () -> record("promoted"));
+        CompletableFuture<String> requested = submit("requested", Priority.REQUESTED);
+
+        scheduler.promote(ticket, Priority.PLAYING);
+        release.countDown();
+
+        CompletableFuture.allOf(promoted, requested).join();
+        assertEquals(Priority.PLAYING, ticket.getPriority());
+        assertEquals(List.of("promoted", "requested"), ran);
+    }
+
+    @Test
+    void completingATicketCancelsItsQueuedWork() {
+        Ticket ticket = scheduler.ticket("finished", Priority.REQUESTED);
+        CompletableFuture<String> queued = scheduler.submit(ticket, Pool.IO, () -> record("finished"));
+
+        scheduler.complete(ticket, false);
+        release.countDown();
+
+        assertThrows(CancellationException.class, queued::join);
+        assertTrue(ticket.getPending().isEmpty());
+        assertFalse(ran.contains("finished"));
+    }
+
+    private void occupyIoThread() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        scheduler.submit(scheduler.ticket("busy", Priority.PLAYING), Pool.IO, () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "busy";
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+    }
+
+    private CompletableFuture<String> submit(String videoId, Priority priority) {
+        return scheduler.submit(scheduler.ticket(videoId, priority), Pool.IO, () -> record(videoId));
+    }
+
+    private String record(String videoId) {
+        ran.add(videoId);
+        return videoId;
+    }
+
+    private void assertRejected(CompletableFuture<String> future) {
+        CompletionException thrown = assertThrows(CompletionException.class, future::join);
+        assertTrue(thrown.getCause() instanceof RejectedExecutionException);
+    }
+
+    private double rejected(String priority) {
+        return meterRegistry.get("subtitle.jobs.rejected").tag("priority", priority).counter().count();
+    }
+}
@@ -10,7 +10,8 @@ import AIRecommendModal from "../AIRecommendModal";
 import ProfileModal from "../ProfileModal";
 import NotificationModal from "../NotificationModal";
 import { useWebSocket, NotificationData, BroadcastEvent } from "../../hooks/useWebSocket";
-import { Track, getYoutubeVideoId, getTrackInfo, togglePlaylistLike, toggleCommentLike, toggleTrackLike, getUserLikedTracks, getPublicPlaylists, getPlaylistDetail, getPlaylistComments, createComment, getSavedAIPlaylists, saveAIPlaylist, updatePlaylist, deletePlaylist, updateComment, deleteComment, createPlaylist, toggleFollow, getFollowStatus, getProfile, deleteAIPlaylist, removeTrackFromPlaylist, togglePlaylistVisibility, duplicatePlaylist, blockUser, unblockUser, getBlockStatus, sharePlaylist, getActiveStations, createStation, joinStation, deleteStation, StationListItem, getKoreaChart, TrackInfo } from "../../services/api";
+import { useStationLobby } from "../../hooks/useStationLobby";
+import { Track, getYoutubeVideoId, getTrackInfo, togglePlaylistLike, toggleCommentLike, toggleTrackLike, getUserLikedTracks, getPublicPlaylists, getPlaylistDetail, getPlaylistComments, createComment, getSavedAIPlaylists, saveAIPlaylist, updatePlaylist, deletePlaylist, updateComment, deleteComment, createPlaylist, toggleFollow, getFollowStatus, getProfile, deleteAIPlaylist, removeTrackFromPlaylist, togglePlaylistVisibility, duplicatePlaylist, blockUser, unblockUser, getBlockStatus, sharePlaylist, createStation, joinStation, deleteStation, getKoreaChart, TrackInfo } from "../../services/api";
 
 const imgBackground = "/background.jpg";
 
@@ -192,8 +193,7 @@ export default function HomeScreen({ onLogout, sharedPlaylistId, onNavigateToSta
   const [isBlockingCommentAuthor, setIsBlockingCommentAuthor] = useState(false);
   const [shareModalPost, setShareModalPost] = useState<PlaylistPost | null>(null);
   
-  const [stations, setStations] = useState<StationListItem[]>([]);
-  const [stationsLoading, setStationsLoading] = useState(true);
+  const { stations, setStations, isLoading: stationsLoading } = useStationLobby();
   const [newStationTitle, setNewStationTitle] = useState("");
   const [joinCode, setJoinCode] = useState("");
   const [stationError, setStationError] = useState<string | null>(null);
@@ -725,24 +725,6 @@ export default function HomeScreen({ onLogout, sharedPlaylistId, onNavigateToSta
     fetchPlaylists();
   }, []);
 
-  const fetchStations = useCallback(async (showLoading = false) => {
-    try {
-      if (showLoading) setStationsLoading(true);
-      const stationList = await getActiveStations();
-      setStations(stationList);
-    } catch (error) {
-      console.error('스테이션 목록 조회 오류:', error);
-    } finally {
-      if (showLoading) setStationsLoading(false);
-    }
-  }, []);
-
-  useEffect(() => {
-    fetchStations(true);
-    const interval = setInterval(() => fetchStations(false), 5000);
-    return () => clearInterval(interval);
-  }, [fetchStations]);
-
   useEffect(() => {
     const fetchKoreaChart = async () => {
       try {
@@ -24,7 +24,7 @@ import {
   TrackInfo,
   BannedUser
 } from "../../services/api";
-import { useStationStomp, ChatMessage, QueueItem, SubtitleSegment } from "../../hooks/useStationStomp";
+import { useStationStomp, ChatMessage, QueueItem, QueueOp, SubtitleSegment } from "../../hooks/useStationStomp";
 
 const imgBackground = "/background.jpg";
 
@@ -293,17 +293,8 @@ export default function StationScreen({ stationId, onExit }: StationScreenProps)
       }
     },
     onQueueUpdate: (newQueue: QueueItem[]) => {
-      if (!isHostRef.current) {
-        setQueue(newQueue);
-        queueRef.current = newQueue;
-      }
-    },
-    onQueueAdd: (item: QueueItem) => {
-      setQueue(prev => {
-        const updated = [...prev, item];
-        queueRef.current = updated;
-        return updated;
-      });
+      setQueue(newQueue);
+      queueRef.current = newQueue;
     },
     onHostChanged: (newHostId: number, newParticipants?: StationParticipant[], host?: StationUserInfo) => {
       if (newParticipants) setParticipants(newParticipants);
@@ -327,6 +318,19 @@ export default function StationScreen({ stationId, onExit }: StationScreenProps)
         segments: data.segments || [],
       }));
     },
+    onSubtitlePartial: (data: { videoId: string; originalLanguage: string; segments: SubtitleSegment[] }) => {
+      if (data.videoId !== videoIdRef.current) return;
+      setSubtitle(prev => {
+        const starts = new Set(data.segments.map(s => s.startTime));
+        return {
+          ...prev,
+          available: true,
+          originalLanguage: prev.originalLanguage || data.originalLanguage,
+          segments: [...prev.segments.filter(s => !starts.has(s.startTime)), ...data.segments]
+            .sort((a, b) => a.startTime - b.startTime),
+        };
+      });
+    },
     onSubtitleStatus: (data: { enabled: boolean; available: boolean; processing: boolean; originalLanguage?: string; segments?: SubtitleSegment[] }) => {
       setSubtitle(prev => ({
         ...prev,
@@ -348,7 +352,7 @@ export default function StationScreen({ stationId, onExit }: StationScreenProps)
     sendChat: stompSendChat,
     requestSync,
     sendVolumeUpdate: stompSendVolume,
-    sendQueueUpdate: stompSendQueueUpdate,
+    sendQueueOp: stompSendQueueOp,
     sendQueueAdd: stompSendQueueAdd,
     sendSubtitleEnable: stompSendSubtitleEnable,
     sendSubtitleDisable: stompSendSubtitleDisable,
@@ -583,11 +587,11 @@ export default function StationScreen({ stationId, onExit }: StationScreenProps)
     }
   }, [currentUserId, isHost, stationId, onExit]);
 
-  const sendQueueUpdate = useCallback((newQueue: QueueItem[]) => {
+  const sendQueueOp = useCallback((op: QueueOp) => {
     if (isHost && isConnected) {
-      stompSendQueueUpdate(newQueue);
+      stompSendQueueOp(op);
     }
-  }, [isHost, isConnected, stompSendQueueUpdate]);
+  }, [isHost, isConnected, stompSendQueueOp]);
 
   const handleAddToQueue = useCallback(async (track: TrackInfo) => {
     if (!isConnected) return;
@@ -608,10 +612,10 @@ export default function StationScreen({ stationId, onExit }: StationScreenProps)
     setQueue(prev => {
       const updated = prev.filter(item => item.id !== itemId);
       queueRef.current = updated;
-      sendQueueUpdate(updated);
       return updated;
     });
-  }, [isHost, sendQueueUpdate]);
+    sendQueueOp({ op: "remove", itemId });
+  }, [isHost, sendQueueOp]);
 
   const handlePlayFromQueue = useCallback(async (itemId: string) => {
     if (!isHost) return;
@@ -621,7 +625,7 @@ export default function StationScreen({ stationId, onExit }: StationScreenProps)
     const updated = queueRef.current.filter(q => q.id !== itemId);
     setQueue(updated);
     queueRef.current = updated;
-    sendQueueUpdate(updated);
+    sendQueueOp({ op: "remove", itemId });
 
     let video = item.videoId;
     if (!video) {
@@ -640,27 +644,26 @@ export default function StationScreen({ stationId, onExit }: StationScreenProps)
       isPlaying: true,
       videoId: video
     });
-  }, [isHost, sendPlaybackUpdate, setVideoIdSafe, sendQueueUpdate]);
+  }, [isHost, sendPlaybackUpdate, setVideoIdSafe, sendQueueOp]);
 
   const handleQueueReorder = useCallback((activeId: string, overId: string) => {
     if (!isHost) return;
-    setQueue(prev => {
-      const oldIndex = prev.findIndex(item => item.id === activeId);
-      const newIndex = prev.findIndex(item => item.id === overId);
-      if (oldIndex === -1 || newIndex === -1) return prev;
-      const updated = arrayMove(prev, oldIndex, newIndex);
-      queueRef.current = updated;
-      sendQueueUpdate(updated);
-      return updated;
-    });
-  }, [isHost, sendQueueUpdate]);
+    const current = queueRef.current;
+    const oldIndex = current.findIndex(item => item.id === activeId);
+    const newIndex = current.findIndex(item => item.id === overId);
+    if (oldIndex === -1 || newIndex === -1) return;
+    const updated = arrayMove(current, oldIndex, newIndex);
+    setQueue(updated);
+    queueRef.current = updated;
+    sendQueueOp({ op: "move", itemId: activeId, index: newIndex });
+  }, [isHost, sendQueueOp]);
 
   const playNextInQueue = useCallback(async () => {
     if (!isHost || queueRef.current.length === 0) return;
     const [nextTrack, ...rest] = queueRef.current;
     setQueue(rest);
     queueRef.current = rest;
-    sendQueueUpdate(rest);
+    sendQueueOp({ op: "remove", itemId: nextTrack.id });
 
     let video = nextTrack.videoId;
     if (!video) {
@@ -679,7 +682,7 @@ export default function StationScreen({ stationId, onExit }: StationScreenProps)
       isPlaying: true,
       videoId: video
     });
-  }, [isHost, sendPlaybackUpdate, setVideoIdSafe, sendQueueUpdate]);
+  }, [isHost, sendPlaybackUpdate, setVideoIdSafe, sendQueueOp]);
 
   const handleVolumeChange = useCallback((newVolume: number) => {
     setVolume(newVolume);
@@ -0,0 +1,120 @@
+import { useEffect, useRef, useState } from "react";
+import { Client, IMessage } from "@stomp/stompjs";
+import SockJS from "sockjs-client";
+import { StationListItem, getActiveStations } from "../services/api";
+
+const API_BASE = (import.meta.env.VITE_API_URL || "https://plyst.topon.dev").replace(/\/$/, "");
+const WS_STOMP_URL = `${API_BASE}/ws-stomp`;
+
+interface LobbyChange {
+  type: "station_upserted" | "station_removed";
+  node?: string;
+  version: number;
+  station?: StationListItem;
+  stationId?: number;
+}
+
+const byNewest = (a: StationListItem, b: StationListItem) =>
+  (b.createdAt ?? "").localeCompare(a.createdAt ?? "");
+
+function applyLobbyChange(stations: StationListItem[], change: LobbyChange): StationListItem[] {
+  if (change.type === "station_removed") {
+    return stations.filter((s) => s.id !== change.stationId);
+  }
+  if (!change.station) return stations;
+  return [...stations.filter((s) => s.id !== change.station!.id), change.station].sort(byNewest);
+}
+
+export function useStationLobby() {
+  const [stations, setStations] = useState<StationListItem[]>([]);
+  const [isLoading, setIsLoading] = useState(true);
+  const versionRef = useRef(-1);
+  const nodeRef = useRef<string | undefined>(undefined);
+  const pendingRef = useRef<LobbyChange[]>([]);
+
+  useEffect(() => {
+    let cancelled = false;
+
+    getActiveStations().then((list) => {
+      if (cancelled || versionRef.current >= 0) return;
+      setStations(list);
+      setIsLoading(false);
+    });
+
+    const client = new Client({
+      webSocketFactory: () => new SockJS(WS_STOMP_URL),
+      debug: (str) => {
+        if (import.meta.env.DEV) {
+          console.debug("[STOMP lobby]", str);
+        }
+      },
+      reconnectDelay: 5000,
+      heartbeatIncoming: 10000,
+      heartbeatOutgoing: 10000
+    });
+
+    const requestSnapshot = () => {
+      versionRef.current = -1;
+      const subscription = client.subscribe("/app/stations", (message: IMessage) => {
+        subscription.unsubscribe();
+        try {
+          const snapshot = JSON.parse(message.body) as { node?: string; version: number; stations: StationListItem[] };
+          let list = snapshot.stations || [];
+          for (const change of pendingRef.current) {
+            if (change.version > snapshot.version) list = applyLobbyChange(list, change);
+          }
+          pendingRef.current = [];
+          nodeRef.current = snapshot.node;
+          versionRef.current = snapshot.version;
+          setStations(list);
+          setIsLoading(false);
+        } catch (error) {
+          console.error("Lobby snapshot parse error:", error);
+        }
+      });
+    };
+
+    const handleChange = (message: IMessage) => {
+      try {
+        const change = JSON.parse(message.body) as LobbyChange;
+        if (versionRef.current < 0) {
+          pendingRef.current.push(change);
+          return;
+        }
+        // Frames relayed from other nodes carry their own version sequence; upserts and removals are idempotent.
+        if (change.node !== nodeRef.current) {
+          setStations((prev) => applyLobbyChange(prev, change));
+          return;
+        }
+        if (change.version <= versionRef.current) return;
+        if (change.version > versionRef.current + 1) {
+          pendingRef.current = [change];
+          requestSnapshot();
+          return;
+        }
+        versionRef.current = change.version;
+        setStations((prev) => applyLobbyChange(prev, change));
+      } catch (error) {
+        console.error("Lobby message parse error:", error);
+      }
+    };
+
+    client.onConnect = () => {
+      client.subscribe("/topic/stations", handleChange);
+      requestSnapshot();
+    };
+
+    client.onStompError = (frame) => {
+      console.error("STOMP error:", frame.headers["message"], frame.body);
+    };
+
+    client.activate();
+
+    return () => {
+      cancelled = true;
+      client.deactivate();
+    };
+  }, []);
+
+  return { stations, setStations, isLoading };
+}
@@ -1,7 +1,7 @@
 import { useCallback, useEffect, useRef, useState } from "react";
 import { Client, IMessage, StompSubscription } from "@stomp/stompjs";
 import SockJS from "sockjs-client";
-import { StationDetail, StationParticipant, StationPlayback, StationUserInfo } from "../services/api";
+import { StationDetail, StationParticipant, StationPlayback, StationUserInfo, getStationRoute } from "../services/api";
 
 const API_BASE = (import.meta.env.VITE_API_URL || "https://plyst.topon.dev").replace(/\/$/, "");
 const WS_STOMP_URL = `${API_BASE}/ws-stomp`;
@@ -22,6 +22,45 @@ export interface QueueItem {
   videoId?: string;
 }
 
+export type QueueOp =
+  | { op: "insert"; item: QueueItem; index?: number }
+  | { op: "remove"; itemId: string }
+  | { op: "move"; itemId: string; index: number };
+
+interface QueueOperation {
+  seq: number;
+  op: "insert" | "remove" | "move" | "replace";
+  item?: QueueItem;
+  itemId?: string;
+  index?: number;
+  items?: QueueItem[];
+}
+
+function applyQueueOperation(items: QueueItem[], operation: QueueOperation): QueueItem[] {
+  switch (operation.op) {
+    case "insert": {
+      if (!operation.item || items.some((q) => q.id === operation.item!.id)) return items;
+      const next = [...items];
+      next.splice(operation.index ?? next.length, 0, operation.item);
+      return next;
+    }
+    case "remove":
+      return items.filter((q) => q.id !== operation.itemId);
+    case "move": {
+      const from = items.findIndex((q) => q.id === operation.itemId);
+      if (from === -1 || operation.index === undefined) return items;
+      const next = [...items];
+      const [moved] = next.splice(from, 1);
+      next.splice(operation.index, 0, moved);
+      return next;
+    }
+    case "replace":
+      return operation.items || [];
+    default:
+      return items;
+  }
+}
+
 export interface SubtitleSegment {
   startTime: number;
   endTime: number;
@@ -47,11 +86,11 @@ export interface StationStompCallbacks {
   onStationClosed?: () => void;
   onVolumeUpdate?: (volume: number) => void;
   onQueueUpdate?: (queue: QueueItem[]) => void;
-  onQueueAdd?: (item: QueueItem) => void;
   onHostChanged?: (newHostId: number, participants?: StationParticipant[], host?: StationUserInfo) => void;
   onSubtitleEnabled?: (videoId: string) => void;
   onSubtitleDisabled?: () => void;
   onSubtitleReady?: (data: { videoId: string; available: boolean; processing: boolean; originalLanguage: string; segments: SubtitleSegment[] }) => void;
+  onSubtitlePartial?: (data: { videoId: string; chunkIndex: number; originalLanguage: string; segments: SubtitleSegment[] }) => void;
   onSubtitleStatus?: (data: { enabled: boolean; available: boolean; processing: boolean; originalLanguage?: string; segments?: SubtitleSegment[] }) => void;
   onTitleChanged?: (title: string) => void;
 }
@@ -62,7 +101,7 @@ export interface UseStationStompReturn {
   sendChat: (message: string) => void;
   requestSync: () => void;
   sendVolumeUpdate: (volume: number) => void;
-  sendQueueUpdate: (queue: QueueItem[]) => void;
+  sendQueueOp: (op: QueueOp) => void;
   sendQueueAdd: (item: QueueItem) => void;
   sendSubtitleEnable: (videoId?: string) => void;
   sendSubtitleDisable: () => void;
@@ -70,6 +109,15 @@ export interface UseStationStompReturn {
   disconnect: () => void;
 }
 
+function toChatMessage(data: any): ChatMessage {
+  return {
+    id: data.seq !== undefined ? `chat-${data.seq}` : `${Date.now()}-${Math.random()}`,
+    user: data.user || { id: 0, nickname: "Unknown" },
+    message: data.message,
+    sentAt: data.sentAt || new Date().toISOString()
+  };
+}
+
 export function useStationStomp(
   stationId: number,
   userId: number,
@@ -79,16 +127,80 @@ export function useStationStomp(
   const clientRef = useRef<Client | null>(null);
   const subscriptionRef = useRef<StompSubscription | null>(null);
   const callbacksRef = useRef(callbacks);
+  const clockOffsetRef = useRef(0);
+  const timeSamplesRef = useRef<{ offset: number; rtt: number }[]>([]);
+  const rosterRef = useRef<{ version: number; participants: StationParticipant[]; host?: StationUserInfo }>({
+    version: -1,
+    participants: []
+  });
+  const chatSeqRef = useRef(0);
+  const queueStateRef = useRef<{ seq: number; items: QueueItem[] }>({ seq: 0, items: [] });
 
   callbacksRef.current = callbacks;
 
+  const toLocalTime = (serverTime?: number) =>
+    serverTime !== undefined ? serverTime - clockOffsetRef.current : undefined;
+
   const handleMessage = useCallback((message: IMessage) => {
+    const applyRosterDelta = (version: number, apply: (participants: StationParticipant[]) => StationParticipant[]) => {
+      const roster = rosterRef.current;
+      if (version > roster.version + 1) {
+        clientRef.current?.publish({
+          destination: `/app/station/${stationId}/roster`,
+          body: JSON.stringify({})
+        });
+        return false;
+      }
+      roster.participants = apply(roster.participants);
+      roster.version = Math.max(roster.version, version);
+      return true;
+    };
+
+    const applyQueueOperations = (operations: QueueOperation[] = []) => {
+      const queueState = queueStateRef.current;
+      for (const operation of operations) {
+        if (operation.seq <= queueState.seq) continue;
+        if (operation.seq > queueState.seq + 1) {
+          clientRef.current?.publish({
+            destination: `/app/station/${stationId}/queue/sync`,
+            body: JSON.stringify({ since: queueState.seq })
+          });
+          return;
+        }
+        queueState.items = applyQueueOperation(queueState.items, operation);
+        queueState.seq = operation.seq;
+      }
+      callbacksRef.current.onQueueUpdate?.(queueState.items);
+    };
+
+    const deliverChat = (entries: any[] = []) => {
+      entries.forEach((entry) => {
+        if (entry.seq !== undefined) {
+          if (entry.seq <= chatSeqRef.current) return;
+          chatSeqRef.current = entry.seq;
+        }
+        callbacksRef.current.onChat?.(toChatMessage(entry));
+      });
+    };
+
     try {
       const data = JSON.parse(message.body);
       const cb = callbacksRef.current;
+      const roster = rosterRef.current;
 
       switch (data.type) {
         case "station_detail":
+          if (data.station) {
+            rosterRef.current = {
+              version: data.station.rosterVersion ?? -1,
+              participants: data.station.participants || [],
+              host: data.station.host
+            };
+          }
+          deliverChat(data.chatHistory);
+          if (data.queue) {
+            queueStateRef.current = { seq: data.queueSeq ?? 0, items: data.queue };
+          }
           if (data.station && cb.onStationDetail) {
             cb.onStationDetail(
               data.station,
@@ -104,35 +216,84 @@ export function useStationStomp(
           }
           break;
 
-        case "participants_update":
-          cb.onParticipantsUpdate?.(
-            data.participants || [],
-            data.host,
-            data.status,
-            data.action,
-            data.affectedUserId
-          );
+        case "participant_joined":
+          if (data.participant && applyRosterDelta(data.version, (list) =>
+            [...list.filter((p) => p.id !== data.participant.id), data.participant])) {
+            cb.onParticipantsUpdate?.(roster.participants, roster.host, undefined, "join", data.participant.id);
+          }
+          break;
+
+        case "participant_left":
+          if (applyRosterDelta(data.version, (list) => list.filter((p) => p.id !== data.userId))) {
+            cb.onParticipantsUpdate?.(roster.participants, roster.host, undefined, data.action, data.userId);
+          }
+          break;
+
+        case "participants_left":
+          if (applyRosterDelta(data.version, (list) => {
+            const leftIds = new Set<number>(data.userIds || []);
+            return list
+              .filter((p) => !leftIds.has(p.id))
+              .map((p) => (p.id === data.newHostId ? { ...p, role: "HOST" } : p));
+          })) {
+            if (data.newHostId) {
+              roster.host = data.host ?? roster.host;
+              cb.onHostChanged?.(data.newHostId, roster.participants, roster.host);
+            } else {
+              cb.onParticipantsUpdate?.(roster.participants, roster.host, undefined, data.action);
+            }
+          }
+          break;
+
+        case "role_changed":
+          if (applyRosterDelta(data.version, (list) => list.map((p) => {
+            if (p.id === data.userId) return { ...p, role: data.role };
+            if (data.role === "HOST" && p.role === "HOST") return { ...p, role: "MEMBER" };
+            return p;
+          })) && data.role === "HOST") {
+            roster.host = data.host ?? roster.host;
+            cb.onHostChanged?.(data.userId, roster.participants, roster.host);
+          }
+          break;
+
+        case "roster_snapshot":
+          rosterRef.current = {
+            version: data.version,
+            participants: data.participants || [],
+            host: data.host
+          };
+          cb.onParticipantsUpdate?.(rosterRef.current.participants, rosterRef.current.host);
           break;
 
         case "playback_update":
         case "playback_state":
           if (cb.onPlaybackUpdate) {
             const playbackData = data.payload || data;
-            cb.onPlaybackUpdate(playbackData, data.videoId, data.serverTime, data.senderId);
+            cb.onPlaybackUpdate(playbackData, data.videoId, toLocalTime(data.serverTime), data.senderId);
           }
           break;
 
-        case "chat":
-          if (cb.onChat) {
-            cb.onChat({
-              id: `${Date.now()}-${Math.random()}`,
-              user: data.user || { id: 0, nickname: "Unknown" },
-              message: data.message,
-              sentAt: data.sentAt || new Date().toISOString()
-            });
+        case "playback_heartbeat":
+          // The host drives playback itself; heartbeats only keep listeners converged.
+          if (rosterRef.current.host?.id === userId) break;
+          if (cb.onPlaybackUpdate) {
+            cb.onPlaybackUpdate(data.payload, data.videoId, toLocalTime(data.serverTime));
           }
           break;
 
+        case "chat":
+          deliverChat([data]);
+          break;
+
+        case "chat_batch":
+        case "chat_history":
+          deliverChat(data.messages);
+          break;
+
+        case "chat_rejected":
+          console.warn("Chat rejected:", data.reason);
+          break;
+
         case "kicked":
           cb.onKicked?.(data.reason);
           break;
@@ -145,18 +306,19 @@ export function useStationStomp(
           cb.onVolumeUpdate?.(data.volume ?? 100);
           break;
 
-        case "queue_update":
-          cb.onQueueUpdate?.(data.queue || []);
-          break;
-
-        case "queue_add":
-          if (data.item) {
-            cb.onQueueAdd?.(data.item);
+        case "queue_op":
+          if (data.operation) {
+            applyQueueOperations([data.operation]);
           }
           break;
 
-        case "host_changed":
-          cb.onHostChanged?.(data.newHostId, data.participants, data.host);
+        case "queue_sync":
+          if (data.items) {
+            queueStateRef.current = { seq: data.seq ?? 0, items: data.items };
+            cb.onQueueUpdate?.(data.items);
+          } else {
+            applyQueueOperations(data.operations);
+          }
           break;
 
         case "subtitle_enabled":
@@ -177,6 +339,15 @@ export function useStationStomp(
           });
           break;
 
+        case "subtitle_partial":
+          cb.onSubtitlePartial?.({
+            videoId: data.videoId,
+            chunkIndex: data.chunkIndex,
+            originalLanguage: data.originalLanguage || "",
+            segments: data.segments || []
+          });
+          break;
+
         case "subtitle_status":
           cb.onSubtitleStatus?.({
             enabled: data.enabled,
@@ -191,6 +362,18 @@ export function useStationStomp(
           cb.onTitleChanged?.(data.title);
           break;
 
+        case "time_sync": {
+          const t3 = Date.now();
+          if (typeof data.t0 !== "number") break;
+          const offset = ((data.t1 - data.t0) + (data.t2 - t3)) / 2;
+          const rtt = (t3 - data.t0) - (data.t2 - data.t1);
+          const samples = timeSamplesRef.current;
+          samples.push({ offset, rtt });
+          if (samples.length > 8) samples.shift();
+          clockOffsetRef.current = samples.reduce((best, s) => (s.rtt < best.rtt ? s : best)).offset;
+          break;
+        }
+
         case "pong":
           break;
 
@@ -200,13 +383,17 @@ export function useStationStomp(
     } catch (error) {
       console.error("STOMP message parse error:", error);
     }
-  }, []);
+  }, [stationId, userId]);
 
   useEffect(() => {
     if (!stationId || !userId) return;
 
+    chatSeqRef.current = 0;
+    queueStateRef.current = { seq: 0, items: [] };
+    let disposed = false;
+    let stompUrl = WS_STOMP_URL;
     const client = new Client({
-      webSocketFactory: () => new SockJS(WS_STOMP_URL),
+      webSocketFactory: () => new SockJS(stompUrl),
       connectHeaders: {
         userId: String(userId)
       },
@@ -220,6 +407,15 @@ export function useStationStomp(
       heartbeatOutgoing: 4000
     });
 
+    let timeSyncTimer: ReturnType<typeof setInterval> | undefined;
+    const sendTimeSync = () => {
+      if (!client.connected) return;
+      client.publish({
+        destination: `/app/station/${stationId}/time`,
+        body: JSON.stringify({ t0: Date.now() })
+      });
+    };
+
     client.onConnect = () => {
       console.log("STOMP connected");
       setIsConnected(true);
@@ -238,21 +434,45 @@ export function useStationStomp(
         destination: `/app/station/${stationId}/sync`,
         body: JSON.stringify({})
       });
+
+      if (chatSeqRef.current > 0) {
+        client.publish({
+          destination: `/app/station/${stationId}/chat/history`,
+          body: JSON.stringify({ since: chatSeqRef.current })
+        });
+      }
+
+      timeSamplesRef.current = [];
+      for (let i = 0; i < 5; i++) {
+        setTimeout(sendTimeSync, i * 200);
+      }
+      clearInterval(timeSyncTimer);
+      timeSyncTimer = setInterval(sendTimeSync, 30000);
     };
 
     client.onDisconnect = () => {
       console.log("STOMP disconnected");
       setIsConnected(false);
+      clearInterval(timeSyncTimer);
     };
 
     client.onStompError = (frame) => {
       console.error("STOMP error:", frame.headers["message"], frame.body);
     };
 
-    client.activate();
+    // Connect to the node that owns this station so every member shares one room state.
+    getStationRoute(stationId)
+      .then((route) => {
+        if (route?.url) stompUrl = `${route.url.replace(/\/$/, "")}/ws-stomp`;
+      })
+      .finally(() => {
+        if (!disposed) client.activate();
+      });
     clientRef.current = client;
 
     return () => {
+      disposed = true;
+      clearInterval(timeSyncTimer);
       subscriptionRef.current?.unsubscribe();
       client.deactivate();
       clientRef.current = null;
@@ -270,7 +490,8 @@ export function useStationStomp(
           albumImage: payload.albumImage,
           durationSec: payload.durationSec,
           positionMs: payload.positionMs,
-          isPlaying: payload.isPlaying
+          isPlaying: payload.isPlaying,
+          capturedAt: Date.now() + clockOffsetRef.current
         },
         videoId: payload.videoId
       })
@@ -301,11 +522,11 @@ export function useStationStomp(
     });
   }, [stationId]);
 
-  const sendQueueUpdate = useCallback((queue: QueueItem[]) => {
+  const sendQueueOp = useCallback((op: QueueOp) => {
     if (!clientRef.current?.connected) return;
     clientRef.current.publish({
-      destination: `/app/station/${stationId}/queue/update`,
-      body: JSON.stringify({ queue })
+      destination: `/app/station/${stationId}/queue/op`,
+      body: JSON.stringify(op)
     });
   }, [stationId]);
 
@@ -351,7 +572,7 @@ export function useStationStomp(
     sendChat,
     requestSync,
     sendVolumeUpdate,
-    sendQueueUpdate,
+    sendQueueOp,
     sendQueueAdd,
     sendSubtitleEnable,
     sendSubtitleDisable,
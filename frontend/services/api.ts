@@ -1391,6 +1391,7 @@ export interface StationDetail {
   participants: StationParticipant[];
   bannedUsers?: BannedUser[];
   playback?: StationPlayback;
+  rosterVersion?: number;
   createdAt: string;
   isPrivate?: boolean;
 }
@@ -1405,6 +1406,7 @@ export interface StationListItem {
   isLive: boolean;
   isPrivate?: boolean;
   host?: StationUserInfo;
+  createdAt?: string;
 }
 
 export interface CreateStationRequest {
@@ -1449,6 +1451,17 @@ export const getActiveStations = async (): Promise<StationListItem[]> => {
   }
 };
 
+// Resolve which backend node owns a station (null url on single-node deployments)
+export const getStationRoute = async (stationId: number): Promise<{ nodeId?: string; url?: string } | null> => {
+  try {
+    const response = await apiClient.get(`/api/stations/${stationId}/route`);
+    return response.data;
+  } catch (error) {
+    console.error('스테이션 라우트 조회 오류:', error);
+    return null;
+  }
+};
+
 // Get station details
 export const getStationDetail = async (stationId: number): Promise<StationDetail | null> => {
   try {